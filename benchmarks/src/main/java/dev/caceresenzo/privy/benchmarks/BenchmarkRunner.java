@@ -0,0 +1,30 @@
+package dev.caceresenzo.privy.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Run the benchmarks with the {@link GCProfiler GC profiler} always enabled, so that the allocation rates are reported along with the timings. <br />
+ * Accepts the same arguments as the JMH command line.
+ */
+public class BenchmarkRunner {
+
+	public static void main(String[] args) throws Exception {
+		final var commandLineOptions = new CommandLineOptions(args);
+
+		if (commandLineOptions.shouldHelp() || commandLineOptions.shouldList()) {
+			org.openjdk.jmh.Main.main(args);
+			return;
+		}
+
+		final var options = new OptionsBuilder()
+			.parent(commandLineOptions)
+			.addProfiler(GCProfiler.class)
+			.build();
+
+		new Runner(options).run();
+	}
+
+}
@@ -0,0 +1,152 @@
+package dev.caceresenzo.privy.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import dev.caceresenzo.privy.client.impl.pagination.StreamingPage;
+import dev.caceresenzo.privy.model.User;
+import dev.caceresenzo.privy.util.PrivyMapper;
+
+/**
+ * Decoding of a page of distinct users received compressed or not. <br />
+ * The bytes on the wire per user are reported as the <code>bytesPerUser</code> secondary result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompressionBenchmark {
+
+	@Param({ "identity", "gzip", "deflate" })
+	public String encoding;
+
+	@Param({ "100" })
+	public int pageSize;
+
+	private byte[] body;
+
+	@Setup
+	public void setup() throws IOException {
+		final var random = new Random(42);
+		final var users = IntStream.range(0, pageSize)
+			.mapToObj((__) -> randomUser(random))
+			.collect(Collectors.joining(","));
+
+		final var json = """
+			{"data":[%s],"next_cursor":"cursor"}"""
+			.formatted(users)
+			.getBytes(StandardCharsets.UTF_8);
+
+		final var output = new ByteArrayOutputStream();
+		try (final var compressor = compress(output)) {
+			compressor.write(json);
+		}
+
+		body = output.toByteArray();
+	}
+
+	/** Users as random as the real ones are, so that they do not compress better than them. */
+	private static String randomUser(Random random) {
+		final var id = randomString(random, "abcdefghijklmnopqrstuvwxyz0123456789", 25);
+		final var createdAt = 1_600_000_000 + random.nextInt(100_000_000);
+
+		final var linkedAccounts = """
+			[{"type":"email","address":"%s@%s.com","verified_at":%d,"first_verified_at":%d,"latest_verified_at":%d},\
+			{"type":"wallet","address":"0x%s","chain_type":"ethereum","wallet_client_type":"privy","connector_type":"embedded","verified_at":%d,"first_verified_at":%d,"latest_verified_at":%d}]"""
+			.formatted(
+				randomString(random, "abcdefghijklmnopqrstuvwxyz.", 6 + random.nextInt(10)),
+				randomString(random, "abcdefghijklmnopqrstuvwxyz", 4 + random.nextInt(6)),
+				createdAt, createdAt, createdAt + random.nextInt(1_000_000),
+				randomString(random, "0123456789abcdef", 40),
+				createdAt, createdAt, createdAt + random.nextInt(1_000_000)
+			);
+
+		return """
+			{"id":"did:privy:%s","created_at":%d,"has_accepted_terms":%b,"is_guest":false,"linked_accounts":%s,"custom_metadata":{"credits":%d}}"""
+			.formatted(id, createdAt, random.nextBoolean(), linkedAccounts, random.nextInt(1000));
+	}
+
+	private static String randomString(Random random, String alphabet, int length) {
+		final var builder = new StringBuilder(length);
+
+		for (var index = 0; index < length; ++index) {
+			builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+		}
+
+		return builder.toString();
+	}
+
+	@Benchmark
+	public void decode(WireSize wireSize, Blackhole blackhole) throws IOException {
+		final var input = decompress(new ByteArrayInputStream(body));
+
+		try (final var page = new StreamingPage<User>(PrivyMapper.WIRE.createParser(input), PrivyMapper.USER_READER, input)) {
+			page.forEachRemaining(blackhole::consume);
+			blackhole.consume(page.nextCursor());
+		}
+	}
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class WireSize {
+
+		/* not a public field, which jmh would reset before each iteration */
+		private double bytesPerUser;
+
+		@Setup(Level.Iteration)
+		public void setup(CompressionBenchmark benchmark) {
+			bytesPerUser = (double) benchmark.body.length / benchmark.pageSize;
+		}
+
+		public double bytesPerUser() {
+			return bytesPerUser;
+		}
+
+	}
+
+	private OutputStream compress(OutputStream output) throws IOException {
+		return switch (encoding) {
+			case "gzip" -> new GZIPOutputStream(output);
+			case "deflate" -> new DeflaterOutputStream(output);
+			default -> output;
+		};
+	}
+
+	private InputStream decompress(InputStream input) throws IOException {
+		return switch (encoding) {
+			case "gzip" -> new GZIPInputStream(input);
+			case "deflate" -> new InflaterInputStream(input);
+			default -> input;
+		};
+	}
+
+}
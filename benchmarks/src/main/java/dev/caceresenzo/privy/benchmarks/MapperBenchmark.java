@@ -0,0 +1,76 @@
+package dev.caceresenzo.privy.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import dev.caceresenzo.privy.client.impl.FeignPrivyClient;
+import dev.caceresenzo.privy.model.Event;
+import dev.caceresenzo.privy.model.User;
+import dev.caceresenzo.privy.util.PrivyMapper;
+
+/**
+ * Decoding of the payloads received from the API and the webhooks, and encoding of the requests, with the human and the wire mappers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+	public static final String USER = """
+		{"id":"%s","created_at":969628260,"has_accepted_terms":true,"is_guest":false,"linked_accounts":%s,"custom_metadata":%s}"""
+		.formatted(Tokens.USER_ID, Tokens.LINKED_ACCOUNTS, Tokens.CUSTOM_METADATA);
+
+	public static final String EVENT = """
+		{"type":"user.created","user":%s}"""
+		.formatted(USER);
+
+	public static final FeignPrivyClient.SearchRequest SEARCH_REQUEST = new FeignPrivyClient.SearchRequest("john", 100, "cursor");
+
+	private static final ObjectWriter SEARCH_REQUEST_WRITER = PrivyMapper.WIRE.writerFor(FeignPrivyClient.SearchRequest.class);
+
+	@Benchmark
+	public User readUser() throws JsonProcessingException {
+		return PrivyMapper.INSTANCE.readValue(USER, User.class);
+	}
+
+	@Benchmark
+	public Event readEvent() throws JsonProcessingException {
+		return PrivyMapper.INSTANCE.readValue(EVENT, Event.class);
+	}
+
+	@Benchmark
+	public User readUserWire() throws JsonProcessingException {
+		return PrivyMapper.USER_READER.readValue(USER);
+	}
+
+	@Benchmark
+	public Event readEventWire() throws JsonProcessingException {
+		return PrivyMapper.EVENT_READER.readValue(EVENT);
+	}
+
+	@Benchmark
+	public byte[] writeSearchRequest() throws JsonProcessingException {
+		return PrivyMapper.INSTANCE.writeValueAsBytes(SEARCH_REQUEST);
+	}
+
+	@Benchmark
+	public byte[] writeSearchRequestWire() throws JsonProcessingException {
+		return SEARCH_REQUEST_WRITER.writeValueAsBytes(SEARCH_REQUEST);
+	}
+
+}
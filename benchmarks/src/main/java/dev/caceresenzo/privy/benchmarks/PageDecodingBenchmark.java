@@ -0,0 +1,74 @@
+package dev.caceresenzo.privy.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import dev.caceresenzo.privy.client.impl.pagination.Page;
+import dev.caceresenzo.privy.client.impl.pagination.StreamingPage;
+import dev.caceresenzo.privy.model.User;
+import dev.caceresenzo.privy.util.PrivyMapper;
+
+/**
+ * Decoding of a page of users, fully buffered or streamed. <br />
+ * Run with the GC profiler to compare the allocations per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageDecodingBenchmark {
+
+	private static final TypeReference<Page<User>> PAGE_TYPE = new TypeReference<>() {};
+
+	@Param({ "100", "1000" })
+	public int pageSize;
+
+	private byte[] body;
+
+	@Setup
+	public void setup() {
+		body = """
+			{"data":[%s],"next_cursor":"cursor"}"""
+			.formatted(String.join(",", Collections.nCopies(pageSize, MapperBenchmark.USER)))
+			.getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public void buffered(Blackhole blackhole) throws IOException {
+		final var page = PrivyMapper.INSTANCE.readValue(new ByteArrayInputStream(body), PAGE_TYPE);
+
+		page.data().forEach(blackhole::consume);
+		blackhole.consume(page.nextCursor());
+	}
+
+	@Benchmark
+	public void streaming(Blackhole blackhole) throws IOException {
+		final var input = new ByteArrayInputStream(body);
+
+		try (final var page = new StreamingPage<User>(PrivyMapper.INSTANCE.createParser(input), PrivyMapper.INSTANCE.readerFor(User.class), input)) {
+			page.forEachRemaining(blackhole::consume);
+			blackhole.consume(page.nextCursor());
+		}
+	}
+
+}
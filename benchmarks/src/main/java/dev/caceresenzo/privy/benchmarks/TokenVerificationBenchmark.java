@@ -0,0 +1,80 @@
+package dev.caceresenzo.privy.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import dev.caceresenzo.privy.client.PrivyClient;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+
+/**
+ * Verification of the auth and identity tokens, with a static verification key so that no request is ever made.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenVerificationBenchmark {
+
+	@Param({ "false", "true" })
+	public boolean fastTokenVerification;
+
+	@Param({ "0", "1000" })
+	public long verifiedTokenCacheSize;
+
+	private PrivyClient client;
+	private String authToken;
+	private String idToken;
+
+	@Setup
+	public void setup() {
+		final var keyPair = Tokens.newKeyPair();
+
+		client = Tokens.newClientBuilder(keyPair)
+			.fastTokenVerification(fastTokenVerification)
+			.verifiedTokenCacheSize(verifiedTokenCacheSize)
+			.build();
+
+		authToken = Tokens.newAuthToken(keyPair);
+		idToken = Tokens.newIdToken(keyPair);
+	}
+
+	@TearDown
+	public void tearDown() {
+		client.close();
+	}
+
+	@Benchmark
+	public Jws<Claims> verifyAuthToken() {
+		return client.verifyAuthToken(authToken);
+	}
+
+	@Benchmark
+	public void getUserFromIdToken(Blackhole blackhole) {
+		final var user = client.getUserFromIdToken(idToken);
+
+		blackhole.consume(user.getLinkedAccounts());
+		blackhole.consume(user.getCustomMetadata());
+	}
+
+	@Benchmark
+	public String getUserIdFromIdToken() {
+		return client.getUserIdFromIdToken(idToken);
+	}
+
+}
@@ -0,0 +1,71 @@
+package dev.caceresenzo.privy.benchmarks;
+
+import java.security.KeyPair;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+import dev.caceresenzo.privy.client.PrivyClient;
+import dev.caceresenzo.privy.client.impl.key.VerificationKeys;
+import io.jsonwebtoken.Jwts;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Locally generated keys and tokens, shaped like the ones issued by Privy.
+ */
+@UtilityClass
+public class Tokens {
+
+	public static final String APPLICATION_ID = "a0b1c2d3e4f5g6h7i8j9k0l1m";
+	public static final String USER_ID = "did:privy:cfbsvtqo2c22202mo08847jdux2z";
+
+	public static final String LINKED_ACCOUNTS = """
+		[{"type":"email","address":"bilbo@privy.io","verified_at":969628260,"first_verified_at":969628260,"latest_verified_at":969628260},\
+		{"type":"phone","number":"+1234567890","verified_at":969628260,"first_verified_at":969628260,"latest_verified_at":969628260},\
+		{"type":"wallet","address":"0x0000000000000000000000000000000000000000","chain_type":"ethereum","wallet_client_type":"privy","connector_type":"embedded","verified_at":969628260,"first_verified_at":969628260,"latest_verified_at":969628260}]""";
+
+	public static final String CUSTOM_METADATA = """
+		{"plan":"pro","credits":42,"beta":true}""";
+
+	public static KeyPair newKeyPair() {
+		return Jwts.SIG.ES256.keyPair().build();
+	}
+
+	public static PrivyClient.Builder newClientBuilder(KeyPair keyPair) {
+		return PrivyClient.builder()
+			.apiUrl("http://localhost:1")
+			.applicationId(APPLICATION_ID)
+			.applicationSecret("secret")
+			.verificationKey(VerificationKeys.toPem(keyPair.getPublic()));
+	}
+
+	public static String newAuthToken(KeyPair keyPair) {
+		return Jwts.builder()
+			.header().add("typ", "JWT").and()
+			.issuer("privy.io")
+			.audience().add(APPLICATION_ID).and()
+			.subject(USER_ID)
+			.id("00000000-0000-0000-0000-000000000000")
+			.claim("sid", "cm0000000000000000000000")
+			.issuedAt(new Date())
+			.expiration(Date.from(Instant.now().plus(1, ChronoUnit.DAYS)))
+			.signWith(keyPair.getPrivate(), Jwts.SIG.ES256)
+			.compact();
+	}
+
+	public static String newIdToken(KeyPair keyPair) {
+		return Jwts.builder()
+			.header().add("typ", "JWT").and()
+			.issuer("privy.io")
+			.audience().add(APPLICATION_ID).and()
+			.subject(USER_ID)
+			.claim("cr", "969628260")
+			.claim("linked_accounts", LINKED_ACCOUNTS)
+			.claim("custom_metadata", CUSTOM_METADATA)
+			.issuedAt(new Date())
+			.expiration(Date.from(Instant.now().plus(1, ChronoUnit.DAYS)))
+			.signWith(keyPair.getPrivate(), Jwts.SIG.ES256)
+			.compact();
+	}
+
+}
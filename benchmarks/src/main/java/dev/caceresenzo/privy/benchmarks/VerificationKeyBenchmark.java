@@ -0,0 +1,42 @@
+package dev.caceresenzo.privy.benchmarks;
+
+import java.security.PublicKey;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.caceresenzo.privy.client.impl.key.VerificationKeys;
+
+/**
+ * Parsing of the PEM verification key, as returned by the application settings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VerificationKeyBenchmark {
+
+	private String pem;
+
+	@Setup
+	public void setup() {
+		pem = VerificationKeys.toPem(Tokens.newKeyPair().getPublic());
+	}
+
+	@Benchmark
+	public PublicKey parse() {
+		return VerificationKeys.parse(pem);
+	}
+
+}
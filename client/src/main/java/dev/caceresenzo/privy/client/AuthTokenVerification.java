@@ -0,0 +1,40 @@
+package dev.caceresenzo.privy.client;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+
+/**
+ * The outcome of the verification of an auth token, as returned by {@link PrivyClient#verifyAuthTokens(java.util.Collection)}.
+ *
+ * @param jwt The parsed JWT, if the token is valid.
+ * @param exception The reason of the rejection, if the token is not valid.
+ */
+public record AuthTokenVerification(
+	Jws<Claims> jwt,
+	RuntimeException exception
+) {
+
+	/**
+	 * Check if the token is valid.
+	 *
+	 * @return <code>true</code> if the token has been verified.
+	 */
+	public boolean isValid() {
+		return exception == null;
+	}
+
+	/**
+	 * Get the parsed JWT, or throw the reason of the rejection.
+	 *
+	 * @return The parsed JWT.
+	 * @throws RuntimeException The reason of the rejection, usually a {@link io.jsonwebtoken.JwtException}.
+	 */
+	public Jws<Claims> getOrThrow() {
+		if (exception != null) {
+			throw exception;
+		}
+
+		return jwt;
+	}
+
+}
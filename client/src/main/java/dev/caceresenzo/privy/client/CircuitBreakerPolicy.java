@@ -0,0 +1,63 @@
+package dev.caceresenzo.privy.client;
+
+import java.time.Duration;
+
+import lombok.With;
+
+/**
+ * When the requests stop being sent to a degraded API. <br />
+ * The outcomes of the last requests are recorded, and the circuit opens when too many of them failed or were slow. While open, the requests fail fast with a {@link PrivyClientException.CircuitOpen}. After a while, a few requests are let through to check whether the API recovered.
+ *
+ * @param failureRateThreshold The ratio of failed requests, between <code>0</code> and <code>1</code>, opening the circuit. The failures are the network errors and the server errors (<code>5xx</code>).
+ * @param slowCallRateThreshold The ratio of slow requests, between <code>0</code> and <code>1</code>, opening the circuit.
+ * @param slowCallDuration The duration above which a request is slow.
+ * @param windowSize The number of last requests recorded.
+ * @param minimumCalls The minimum number of recorded requests before the rates are computed.
+ * @param openDuration How long the circuit stays open before letting requests through.
+ * @param halfOpenCalls The number of requests let through to check whether the API recovered.
+ */
+@With
+public record CircuitBreakerPolicy(
+	double failureRateThreshold,
+	double slowCallRateThreshold,
+	Duration slowCallDuration,
+	int windowSize,
+	int minimumCalls,
+	Duration openDuration,
+	int halfOpenCalls
+) {
+
+	/** Open for 30 seconds when half of the last 50 requests failed or took more than 5 seconds. */
+	public static final CircuitBreakerPolicy DEFAULT = new CircuitBreakerPolicy(0.5, 0.5, Duration.ofSeconds(5), 50, 20, Duration.ofSeconds(30), 5);
+
+	public CircuitBreakerPolicy {
+		if (!(failureRateThreshold > 0 && failureRateThreshold <= 1)) {
+			throw new IllegalArgumentException("failureRateThreshold must be between 0 (exclusive) and 1");
+		}
+
+		if (!(slowCallRateThreshold > 0 && slowCallRateThreshold <= 1)) {
+			throw new IllegalArgumentException("slowCallRateThreshold must be between 0 (exclusive) and 1");
+		}
+
+		if (slowCallDuration == null || slowCallDuration.isNegative() || slowCallDuration.isZero()) {
+			throw new IllegalArgumentException("slowCallDuration must not be null and must be positive");
+		}
+
+		if (windowSize < 1) {
+			throw new IllegalArgumentException("windowSize must be positive");
+		}
+
+		if (minimumCalls < 1 || minimumCalls > windowSize) {
+			throw new IllegalArgumentException("minimumCalls must be positive and not greater than windowSize");
+		}
+
+		if (openDuration == null || openDuration.isNegative()) {
+			throw new IllegalArgumentException("openDuration must not be null or negative");
+		}
+
+		if (halfOpenCalls < 1 || halfOpenCalls > windowSize) {
+			throw new IllegalArgumentException("halfOpenCalls must be positive and not greater than windowSize");
+		}
+	}
+
+}
@@ -0,0 +1,19 @@
+package dev.caceresenzo.privy.client;
+
+/**
+ * The state of the circuit breaker of a client.
+ *
+ * @see CircuitBreakerPolicy
+ */
+public enum CircuitBreakerState {
+
+	/** The requests are sent, and their outcomes are recorded. */
+	CLOSED,
+
+	/** The requests fail fast, the API is considered degraded. */
+	OPEN,
+
+	/** A few requests are sent, to check whether the API recovered. */
+	HALF_OPEN;
+
+}
@@ -0,0 +1,38 @@
+package dev.caceresenzo.privy.client;
+
+import java.nio.file.Path;
+
+import dev.caceresenzo.privy.client.impl.pagination.FileCursorCheckpoint;
+
+/**
+ * Where an export stores the cursor of the next page to process, so that it can resume where it stopped.
+ *
+ * @see PrivyClient#exportAllUsers(CursorCheckpoint, java.util.function.Consumer)
+ */
+public interface CursorCheckpoint {
+
+	/**
+	 * Load the cursor to resume from.
+	 *
+	 * @return The cursor of the next page to process, <code>null</code> to start from the first page.
+	 */
+	String load();
+
+	/**
+	 * Save the cursor to resume from, once a page has been processed.
+	 *
+	 * @param nextCursor The cursor of the next page to process, <code>null</code> once the export is complete.
+	 */
+	void save(String nextCursor);
+
+	/**
+	 * Store the cursor in a file, which is deleted once the export is complete.
+	 *
+	 * @param file The path of the file.
+	 * @return A checkpoint stored in the file.
+	 */
+	static CursorCheckpoint ofFile(Path file) {
+		return new FileCursorCheckpoint(file);
+	}
+
+}
@@ -0,0 +1,17 @@
+package dev.caceresenzo.privy.client;
+
+/**
+ * The groups of API endpoints, which can be rate limited independently.
+ */
+public enum EndpointGroup {
+
+	/** Finding a single user, and getting the application settings. */
+	LOOKUP,
+
+	/** Listing and searching the users. */
+	LIST,
+
+	/** Updating and deleting the users. */
+	WRITE;
+
+}
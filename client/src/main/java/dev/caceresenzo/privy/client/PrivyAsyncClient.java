@@ -0,0 +1,120 @@
+package dev.caceresenzo.privy.client;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import dev.caceresenzo.privy.PrivyException;
+import dev.caceresenzo.privy.model.ApplicationSettings;
+import dev.caceresenzo.privy.model.CustomMetadata;
+import dev.caceresenzo.privy.model.User;
+
+/**
+ * Asynchronous counterpart of the {@link PrivyClient} API calls. <br />
+ * The requests are sent with non-blocking I/O, no thread is held while waiting for a response. <br />
+ * The futures complete exceptionally with the same exceptions as the ones thrown by the {@link PrivyClient}.
+ *
+ * @see PrivyClient.Builder#buildAsync()
+ */
+public interface PrivyAsyncClient {
+
+	/**
+	 * Get the user object associated with the given user DID (decentralized ID).
+	 *
+	 * @param id The Privy DID of the user.
+	 * @return A {@link User user}, if it exists.
+	 */
+	CompletableFuture<Optional<User>> findUserById(String id);
+
+	/**
+	 * Get the user object associated with an email address.
+	 *
+	 * @param address The email address of the user to find.
+	 * @return A {@link User user}, if it exists.
+	 * @throws PrivyException.InvalidEmailAddress If the email address is invalid.
+	 */
+	CompletableFuture<Optional<User>> findUserByEmail(String address);
+
+	/**
+	 * Get the user object associated with a wallet address.
+	 *
+	 * @param address The wallet address of the user to find.
+	 * @returns A {@link User user}, if it exists.
+	 * @throws PrivyException.InvalidWalletAddress If the wallet address is invalid.
+	 */
+	CompletableFuture<Optional<User>> findUserByWallet(String address);
+
+	/**
+	 * Get the user object associated with a phone number.
+	 *
+	 * @param number The phone number of the user to find.
+	 * @return A {@link User user}, if it exists.
+	 * @throws PrivyException.InvalidPhoneNumber If the phone number is invalid.
+	 */
+	CompletableFuture<Optional<User>> findUserByPhone(String number);
+
+	/**
+	 * Get the user object associated with an OAuth account.
+	 *
+	 * @param username Twitter username to search for.
+	 * @return A {@link User user}, if it exists.
+	 */
+	CompletableFuture<Optional<User>> findUserByTwitterUsername(String username);
+
+	/**
+	 * Get the user object associated with an OAuth account.
+	 *
+	 * @param subject Twitter subject to search for.
+	 * @returns A {@link User user}, if it exists.
+	 */
+	CompletableFuture<Optional<User>> findUserByTwitterSubject(String subject);
+
+	/**
+	 * Get the user object associated with a Discord username.
+	 *
+	 * @param username Discord username to search for.
+	 * @returns A {@link User user}, if it exists.
+	 */
+	CompletableFuture<Optional<User>> findUserByDiscordUsername(String username);
+
+	/**
+	* Get the user object associated with a Github username.
+	*
+	* @param username Github username to search for.
+	* @returns A {@link User user}, if it exists.
+	*/
+	CompletableFuture<Optional<User>> findUserByGithubUsername(String username);
+
+	/**
+	 * Gets a user object by their custom JWT auth ID, which is scoped to an individual app.
+	 *
+	 * @param customUserId The custom identifier of the user defined by their JWT.
+	 * @returns A {@link User user}, if it exists.
+	 */
+	CompletableFuture<Optional<User>> findUserByCustomAuthId(String customUserId);
+
+	/**
+	 * Add customMetadata field to the user object.
+	 * 
+	 * @param userId DID of the user to set custom metadata for.
+	 * @param metadata the custom metadata to set for the user.
+	 * @return {@link User User} object updated with custom metadata.
+	 * @throws PrivyClientException.UserNotFound If the user does not exist.
+	 */
+	CompletableFuture<User> setCustomMetadata(String userId, CustomMetadata metadata);
+
+	/**
+	 * Delete the user object associated with the given user DID (decentralized ID).
+	 *
+	 * @param id The Privy DID of the user.
+	 * @return If the user has been deleted.
+	 */
+	CompletableFuture<Boolean> deleteUserById(String id);
+
+	/**
+	 * Get the application settings associated with the given application.
+	 *
+	 * @return The {@link ApplicationSettings}.
+	 */
+	CompletableFuture<ApplicationSettings> getApplicationSettings();
+
+}
@@ -1,12 +1,26 @@
 package dev.caceresenzo.privy.client;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
 import java.security.PublicKey;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
 import dev.caceresenzo.privy.PrivyException;
+import dev.caceresenzo.privy.client.impl.PrivyAsyncClientImpl;
 import dev.caceresenzo.privy.client.impl.PrivyClientImpl;
+import dev.caceresenzo.privy.client.impl.key.VerificationKeys;
 import dev.caceresenzo.privy.model.ApplicationSettings;
 import dev.caceresenzo.privy.model.CustomMetadata;
 import dev.caceresenzo.privy.model.User;
@@ -18,23 +32,96 @@ import io.jsonwebtoken.JwtParserBuilder;
 import lombok.Data;
 import lombok.experimental.Accessors;
 
-public interface PrivyClient {
+public interface PrivyClient extends AutoCloseable {
 
 	/**
-	 * Get the users associated with this application.
+	 * Get the users associated with this application. <br />
+	 * The stream holds the response of the page being read until it is exhausted. A stream which may not be fully consumed, such as with {@link Stream#limit(long) limit}, {@link Stream#findFirst() findFirst} or {@link Stream#anyMatch(java.util.function.Predicate) anyMatch}, must be closed, with a try-with-resources, or its connection leaks.
 	 *
-	 * @return A {@link Stream stream} of {@link User users}.
+	 * @return A {@link Stream stream} of {@link User users}, to close.
 	 */
 	Stream<User> findAllUsers();
 
 	/**
-	 * Get the users associated with this application whose email, phone number, wallet address, name, or username match a search term.
+	 * Get the users associated with this application whose email, phone number, wallet address, name, or username match a search term. <br />
+	 * The stream holds the response of the page being read until it is exhausted. A stream which may not be fully consumed, such as with {@link Stream#limit(long) limit}, {@link Stream#findFirst() findFirst} or {@link Stream#anyMatch(java.util.function.Predicate) anyMatch}, must be closed, with a try-with-resources, or its connection leaks.
 	 *
 	 * @param searchTerm The value used to search the list of users.
-	 * @return A {@link Stream stream} of {@link User users}.
+	 * @return A {@link Stream stream} of {@link User users}, to close.
 	 */
 	Stream<User> findAllUsers(String searchTerm);
 
+	/**
+	 * Give the users associated with this application to a consumer, running on the client {@link Builder#executor executor}, or on threads owned by the client if there is none. <br />
+	 * The pages are fetched one after the other by the calling thread, only once less than <code>parallelism</code> pages are being processed, so that at most <code>parallelism</code> pages are held in memory.
+	 *
+	 * @param consumer The consumer of the users, called concurrently.
+	 * @param parallelism The maximum number of pages processed concurrently.
+	 * @throws RuntimeException The first exception thrown by the consumer, after which no more pages are fetched.
+	 */
+	void forEachUserParallel(Consumer<User> consumer, int parallelism);
+
+	/**
+	 * Get the users associated with this application, one page at a time. <br />
+	 * Each list holds up to <code>maxPageSize</code> users, as returned by the API. Each page is fully read before being given, so that no response is held open between two pages.
+	 *
+	 * @return A {@link Stream stream} of pages of {@link User users}.
+	 */
+	Stream<List<User>> findAllUsersByPage();
+
+	/**
+	 * Get the users associated with this application whose email, phone number, wallet address, name, or username match a search term, one page at a time. <br />
+	 * Each list holds up to <code>maxPageSize</code> users, as returned by the API. Each page is fully read before being given, so that no response is held open between two pages.
+	 *
+	 * @param searchTerm The value used to search the list of users.
+	 * @return A {@link Stream stream} of pages of {@link User users}.
+	 */
+	Stream<List<User>> findAllUsersByPage(String searchTerm);
+
+	/**
+	 * Publish the users associated with this application. <br />
+	 * The pages are fetched on the client executor, only when the subscriber requests more users.
+	 *
+	 * @return A {@link Flow.Publisher publisher} of {@link User users}, each subscriber getting all of them.
+	 */
+	Flow.Publisher<User> publishAllUsers();
+
+	/**
+	 * Publish the users associated with this application whose email, phone number, wallet address, name, or username match a search term. <br />
+	 * The pages are fetched on the client executor, only when the subscriber requests more users.
+	 *
+	 * @param searchTerm The value used to search the list of users.
+	 * @return A {@link Flow.Publisher publisher} of {@link User users}, each subscriber getting all of them.
+	 */
+	Flow.Publisher<User> publishAllUsers(String searchTerm);
+
+	/**
+	 * Get the pages of users associated with this application, starting from a cursor. <br />
+	 * Each page gives the cursor to resume after it, with {@link UserPage#nextCursor()}. Each page is fully read before being given, so that no response is held open between two pages.
+	 *
+	 * @param startCursor The cursor of the first page to get, <code>null</code> to start from the very first page.
+	 * @return A {@link Stream stream} of {@link UserPage pages}.
+	 */
+	Stream<UserPage> findUserPages(String startCursor);
+
+	/**
+	 * Get the pages of users associated with this application whose email, phone number, wallet address, name, or username match a search term, starting from a cursor.
+	 *
+	 * @param searchTerm The value used to search the list of users.
+	 * @param startCursor The cursor of the first page to get, <code>null</code> to start from the very first page.
+	 * @return A {@link Stream stream} of {@link UserPage pages}.
+	 */
+	Stream<UserPage> findUserPages(String searchTerm, String startCursor);
+
+	/**
+	 * Give all the pages of users associated with this application to a consumer, resuming from the cursor of a checkpoint. <br />
+	 * The checkpoint is saved after each page has been consumed, and cleared once all pages have been. An export stopping in the middle of a page resumes from that page, which is then given again.
+	 *
+	 * @param checkpoint Where the cursor of the next page is stored.
+	 * @param pageConsumer The consumer of the pages.
+	 */
+	void exportAllUsers(CursorCheckpoint checkpoint, Consumer<UserPage> pageConsumer);
+
 	/**
 	 * Get the user object associated with the given user DID (decentralized ID).
 	 *
@@ -150,13 +237,40 @@ public interface PrivyClient {
 	 * @param token The auth token (JWT).
 	 * @return Parsed JWT containing auth token claims.
 	 * @throws JwtException If the token is malformed, invalid, or expired.
+	 * @throws RejectedTokenException If the token pre-check is enabled and the token is expired or for another application.
+	 * @implNote A previously verified token may be returned from the cache until it expires, if enabled. <br />
+	 *           A previously rejected token may be rejected again with the same exception, if enabled.
 	 * @see #getVerificationKey()
 	 */
 	Jws<Claims> verifyAuthToken(String token);
 
+	/**
+	 * Verify multiple auth tokens at once, in parallel if the client has been configured with an executor. <br />
+	 * Identical tokens are only verified once, and the verification key is only resolved once for the whole batch.
+	 *
+	 * @param tokens The auth tokens (JWT).
+	 * @return The verification of each distinct token, in encounter order.
+	 * @throws PrivyException If the verification key could not be fetched.
+	 * @see #verifyAuthToken(String)
+	 */
+	Map<String, AuthTokenVerification> verifyAuthTokens(Collection<String> tokens);
+
+	/**
+	 * Verify multiple auth tokens at once, in parallel. <br />
+	 * Identical tokens are only verified once, and the verification key is only resolved once for the whole batch.
+	 *
+	 * @param tokens The auth tokens (JWT).
+	 * @param executor The executor used to verify the tokens, the calling thread waits for all of them to complete.
+	 * @return The verification of each distinct token, in encounter order.
+	 * @throws PrivyException If the verification key could not be fetched.
+	 * @see #verifyAuthToken(String)
+	 */
+	Map<String, AuthTokenVerification> verifyAuthTokens(Collection<String> tokens, Executor executor);
+
 	/**
 	 * Gets a user from the identity token. First, this verifies the token is valid and then parses the payload into a {@link User} object. <br />
 	 * Note the user object may be incomplete due to identity token size constraints. <br />
+	 * The linked accounts and the custom metadata are only decoded on first access, which will throw a {@link io.jsonwebtoken.MalformedJwtException} if they are malformed.
 	
 	 * @param idToken The identity token set as a cookie on the users browser.
 	 * @return {@link User User} object with parsed from the ID token.
@@ -166,6 +280,56 @@ public interface PrivyClient {
 	 */
 	User getUserFromIdToken(String idToken);
 
+	/**
+	 * Gets the user DID (decentralized ID) from the identity token, without decoding the rest of the user.
+	 *
+	 * @param idToken The identity token set as a cookie on the users browser.
+	 * @return The Privy DID of the user.
+	 * @implNote A cached verification key may be used.
+	 * @throws JwtException If the id token is malformed, invalid, or expired.
+	 * @see #getUserFromIdToken(String)
+	 */
+	String getUserIdFromIdToken(String idToken);
+
+	/**
+	 * Get the state of the circuit breaker protecting the API calls.
+	 *
+	 * @return The current state, always {@link CircuitBreakerState#CLOSED} if no circuit breaker is configured.
+	 * @see Builder#circuitBreakerPolicy
+	 */
+	CircuitBreakerState getCircuitBreakerState();
+
+	/**
+	 * Get the statistics of the cache of the verified tokens.
+	 *
+	 * @return The current statistics, always {@link TokenCacheStatistics#EMPTY} if the cache is disabled.
+	 * @see Builder#verifiedTokenCacheSize
+	 */
+	TokenCacheStatistics getVerifiedTokenCacheStatistics();
+
+	/**
+	 * Get the statistics of the cache of the rejected tokens.
+	 *
+	 * @return The current statistics, always {@link TokenCacheStatistics#EMPTY} if the cache is disabled.
+	 * @see Builder#rejectedTokenCacheSize
+	 */
+	TokenCacheStatistics getRejectedTokenCacheStatistics();
+
+	/**
+	 * Get a view of this client where every call gives up after a deadline. <br />
+	 * The deadline starts now, and covers the retries and the fetching of the next pages of the streams. When exceeded, the calls fail with a {@link PrivyClientException.DeadlineExceeded}.
+	 *
+	 * @param timeout The duration until the deadline.
+	 * @return A client sharing the resources of this one, closing it does nothing.
+	 */
+	PrivyClient withDeadline(Duration timeout);
+
+	/**
+	 * Release the resources held by the client, such as the background verification key refresh.
+	 */
+	@Override
+	void close();
+
 	/**
 	 * Create a new builder.
 	 *
@@ -181,7 +345,17 @@ public interface PrivyClient {
 
 		public static final String DEFAULT_API_URL = "https://auth.privy.io";
 		public static final long DEFAULT_MAX_PAGE_SIZE = 100;
+		public static final int DEFAULT_PAGE_PREFETCH_DEPTH = 0;
 		public static final boolean DEFAULT_CACHE_VERIFICATION_KEY = true;
+		public static final long DEFAULT_VERIFIED_TOKEN_CACHE_SIZE = 0;
+		public static final Duration DEFAULT_VERIFICATION_KEY_REFETCH_INTERVAL = Duration.ofMinutes(1);
+		public static final boolean DEFAULT_FAST_TOKEN_VERIFICATION = false;
+		public static final boolean DEFAULT_TOKEN_PRECHECK = false;
+		public static final Duration DEFAULT_TOKEN_PRECHECK_CLOCK_SKEW = Duration.ZERO;
+		public static final long DEFAULT_REJECTED_TOKEN_CACHE_SIZE = 0;
+		public static final Duration DEFAULT_REJECTED_TOKEN_CACHE_DURATION = Duration.ofSeconds(10);
+		public static final boolean DEFAULT_VIRTUAL_THREADS = false;
+		public static final boolean DEFAULT_COMPRESSION = false;
 
 		/** The URL of the Privy API. Defaults to `https://auth.privy.io`. */
 		private String apiUrl = DEFAULT_API_URL;
@@ -195,11 +369,167 @@ public interface PrivyClient {
 		/** The page size used for pagination. */
 		private long maxPageSize = DEFAULT_MAX_PAGE_SIZE;
 
+		/**
+		 * The number of pages fetched in the background while the current one is consumed by the streams of users, <code>0</code> to disable. <br />
+		 * The pages are fetched on the {@link #executor}, or on threads owned by the client if there is none, and each prefetched page is held in memory.
+		 */
+		private int pagePrefetchDepth = DEFAULT_PAGE_PREFETCH_DEPTH;
+
 		/** Cache the verification key on first fetch on the client instance. */
 		private boolean cacheVerificationKey = DEFAULT_CACHE_VERIFICATION_KEY;
 
-		/** Customize the {@link JwtParser JWT Parser} by customizing the {@link JwtParserBuilder builder}. */
-		private UnaryOperator<JwtParserBuilder> jwtParserCustomizer = UnaryOperator.identity();
+		/**
+		 * Customize the {@link JwtParser JWT Parser} by customizing the {@link JwtParserBuilder builder}, <code>null</code> to not customize it. <br />
+		 * Setting one disables the {@link #fastTokenVerification}, which would not apply it.
+		 */
+		private UnaryOperator<JwtParserBuilder> jwtParserCustomizer;
+
+		/** Maximum number of verified auth tokens to remember until they expire, <code>0</code> to disable. */
+		private long verifiedTokenCacheSize = DEFAULT_VERIFIED_TOKEN_CACHE_SIZE;
+
+		/** Interval at which the cached verification key is refreshed in the background, <code>null</code> to disable. */
+		private Duration verificationKeyRefreshInterval;
+
+		/** Minimum interval between two verification key fetches caused by a signature that cannot be verified, in case the key has been rotated. */
+		private Duration verificationKeyRefetchInterval = DEFAULT_VERIFICATION_KEY_REFETCH_INTERVAL;
+
+		/**
+		 * Verify the ES256 tokens issued by Privy with a specialized verifier before using the {@link JwtParser JWT Parser}. <br />
+		 * The specialized verifier only checks the signature, the expiration, the issuer and the audience, with the system clock. It is therefore disabled when a {@link #jwtParserCustomizer} is set.
+		 */
+		private boolean fastTokenVerification = DEFAULT_FAST_TOKEN_VERIFICATION;
+
+		/**
+		 * Reject the expired tokens, and the ones not issued for the application, before verifying their signature. <br />
+		 * The rejections are reported with a {@link RejectedTokenException}, and use the system clock.
+		 */
+		private boolean tokenPrecheck = DEFAULT_TOKEN_PRECHECK;
+
+		/** The clock skew tolerated by the token pre-check when checking the expiration. */
+		private Duration tokenPrecheckClockSkew = DEFAULT_TOKEN_PRECHECK_CLOCK_SKEW;
+
+		/**
+		 * Maximum number of rejected auth tokens to remember, <code>0</code> to disable. <br />
+		 * A remembered token is rejected again with the same exception, without being parsed.
+		 */
+		private long rejectedTokenCacheSize = DEFAULT_REJECTED_TOKEN_CACHE_SIZE;
+
+		/** How long a rejected auth token is remembered. */
+		private Duration rejectedTokenCacheDuration = DEFAULT_REJECTED_TOKEN_CACHE_DURATION;
+
+		/**
+		 * The HTTP client used to call the API, <code>null</code> to use a client shared by all the instances. <br />
+		 * The shared client negotiates HTTP/2, so that concurrent requests are multiplexed over a single connection.
+		 */
+		private HttpClient httpClient;
+
+		/** How the requests failing with a transient error, such as a rate limiting, are retried. */
+		private RetryPolicy retryPolicy = RetryPolicy.DEFAULT;
+
+		/** The client-side rate limits of the requests, per group of endpoints, the groups without one are not limited. */
+		private Map<EndpointGroup, RateLimit> rateLimits = new EnumMap<>(EndpointGroup.class);
+
+		/** When to stop sending the requests to a degraded API, <code>null</code> to disable. */
+		private CircuitBreakerPolicy circuitBreakerPolicy;
+
+		/** The maximum number of concurrent requests per group of endpoints, the requests over it fail fast. The groups without one are not limited. */
+		private Map<EndpointGroup, Integer> maxConcurrentCalls = new EnumMap<>(EndpointGroup.class);
+
+		/** The connect and read timeouts of each attempt of a request. */
+		private Timeouts timeouts = Timeouts.DEFAULT;
+
+		/** The timeouts per group of endpoints, the groups without one use the {@link #timeouts}. */
+		private Map<EndpointGroup, Timeouts> endpointTimeouts = new EnumMap<>(EndpointGroup.class);
+
+		/** Ask for compressed (gzip or deflate) responses, which are much smaller for the pages of users. Disabled by default, so that the requests are unchanged unless asked. */
+		private boolean compression = DEFAULT_COMPRESSION;
+
+		/**
+		 * The executor running the internal concurrent work, such as the background verification key refresh, the batch verifications and the background page fetches. <br />
+		 * Without one, the page fetches run on threads owned by the client, never on a shared pool.
+		 */
+		private Executor executor;
+
+		/**
+		 * Run the internal concurrent work on a new virtual thread per task, instead of a given {@link #executor}. <br />
+		 * Requires Java 21 or later.
+		 */
+		private boolean virtualThreads = DEFAULT_VIRTUAL_THREADS;
+
+		/** The verification key as PEM text, to never fetch it from the API. */
+		private String verificationKey;
+
+		/** The path of a file containing the verification key as PEM text, to never fetch it from the API. */
+		private Path verificationKeyFile;
+
+		/** The name of a classpath resource containing the verification key as PEM text, to never fetch it from the API. */
+		private String verificationKeyResource;
+
+		/** The path of a file where the last fetched verification key is stored, to be reused on the next startup. Requires {@link #cacheVerificationKey}. */
+		private Path verificationKeyPersistenceFile;
+
+		/**
+		 * Set the client-side rate limit of a group of endpoints.
+		 *
+		 * @param group The group of endpoints.
+		 * @param rateLimit The rate limit, <code>null</code> to not limit the group.
+		 * @return This builder.
+		 */
+		public Builder rateLimit(EndpointGroup group, RateLimit rateLimit) {
+			final var rateLimits = new EnumMap<EndpointGroup, RateLimit>(EndpointGroup.class);
+			rateLimits.putAll(this.rateLimits);
+
+			if (rateLimit != null) {
+				rateLimits.put(group, rateLimit);
+			} else {
+				rateLimits.remove(group);
+			}
+
+			this.rateLimits = rateLimits;
+			return this;
+		}
+
+		/**
+		 * Set the maximum number of concurrent requests to a group of endpoints.
+		 *
+		 * @param group The group of endpoints.
+		 * @param maxConcurrentCalls The maximum number of concurrent requests, <code>null</code> to not limit the group.
+		 * @return This builder.
+		 */
+		public Builder maxConcurrentCalls(EndpointGroup group, Integer maxConcurrentCalls) {
+			final var allMaxConcurrentCalls = new EnumMap<EndpointGroup, Integer>(EndpointGroup.class);
+			allMaxConcurrentCalls.putAll(this.maxConcurrentCalls);
+
+			if (maxConcurrentCalls != null) {
+				allMaxConcurrentCalls.put(group, maxConcurrentCalls);
+			} else {
+				allMaxConcurrentCalls.remove(group);
+			}
+
+			this.maxConcurrentCalls = allMaxConcurrentCalls;
+			return this;
+		}
+
+		/**
+		 * Set the timeouts of a group of endpoints.
+		 *
+		 * @param group The group of endpoints.
+		 * @param timeouts The timeouts, <code>null</code> to use the default {@link #timeouts}.
+		 * @return This builder.
+		 */
+		public Builder timeouts(EndpointGroup group, Timeouts timeouts) {
+			final var endpointTimeouts = new EnumMap<EndpointGroup, Timeouts>(EndpointGroup.class);
+			endpointTimeouts.putAll(this.endpointTimeouts);
+
+			if (timeouts != null) {
+				endpointTimeouts.put(group, timeouts);
+			} else {
+				endpointTimeouts.remove(group);
+			}
+
+			this.endpointTimeouts = endpointTimeouts;
+			return this;
+		}
 
 		/**
 		 * Build the client.
@@ -213,10 +543,76 @@ public interface PrivyClient {
 				applicationSecret,
 				maxPageSize,
 				cacheVerificationKey,
-				jwtParserCustomizer
+				jwtParserCustomizer,
+				verifiedTokenCacheSize,
+				verificationKeyRefreshInterval,
+				verificationKeyRefetchInterval,
+				resolveVerificationKey(),
+				verificationKeyPersistenceFile,
+				fastTokenVerification,
+				tokenPrecheck,
+				tokenPrecheckClockSkew,
+				rejectedTokenCacheSize,
+				rejectedTokenCacheDuration,
+				httpClient,
+				executor,
+				virtualThreads,
+				retryPolicy,
+				rateLimits,
+				circuitBreakerPolicy,
+				maxConcurrentCalls,
+				timeouts,
+				endpointTimeouts,
+				compression,
+				pagePrefetchDepth
 			);
 		}
 
+		/**
+		 * Build the asynchronous client. <br />
+		 * Only the options related to the API calls are used, the {@link #endpointTimeouts} are not.
+		 *
+		 * @return A configured asynchronous client instance.
+		 */
+		public PrivyAsyncClient buildAsync() {
+			return new PrivyAsyncClientImpl(
+				apiUrl,
+				applicationId,
+				applicationSecret,
+				httpClient,
+				timeouts,
+				compression
+			);
+		}
+
+		private PublicKey resolveVerificationKey() {
+			final var sourceCount = (verificationKey != null ? 1 : 0)
+				+ (verificationKeyFile != null ? 1 : 0)
+				+ (verificationKeyResource != null ? 1 : 0);
+
+			if (sourceCount > 1) {
+				throw new IllegalArgumentException("only one of verificationKey, verificationKeyFile or verificationKeyResource can be specified");
+			}
+
+			try {
+				if (verificationKey != null) {
+					return VerificationKeys.parse(verificationKey);
+				}
+
+				if (verificationKeyFile != null) {
+					return VerificationKeys.read(verificationKeyFile);
+				}
+
+				if (verificationKeyResource != null) {
+					return VerificationKeys.readResource(verificationKeyResource);
+				}
+			} catch (IOException exception) {
+				throw new UncheckedIOException("could not read the verification key", exception);
+			}
+
+			return null;
+		}
+
 	}
 
 }
\ No newline at end of file
@@ -28,4 +28,19 @@ public class PrivyClientException extends PrivyException {
 	@StandardException
 	public static class InvalidCustomMetadata extends PrivyClientException {}
 
+	@StandardException
+	public static class RateLimited extends PrivyClientException {}
+
+	@StandardException
+	public static class ServiceUnavailable extends PrivyClientException {}
+
+	@StandardException
+	public static class CircuitOpen extends PrivyClientException {}
+
+	@StandardException
+	public static class BulkheadFull extends PrivyClientException {}
+
+	@StandardException
+	public static class DeadlineExceeded extends PrivyClientException {}
+
 }
\ No newline at end of file
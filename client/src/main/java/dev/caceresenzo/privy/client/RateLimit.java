@@ -0,0 +1,47 @@
+package dev.caceresenzo.privy.client;
+
+import java.time.Duration;
+
+import lombok.With;
+
+/**
+ * A client-side limit of the rate of the requests sent to a {@link EndpointGroup group of endpoints}. <br />
+ * When no permit is available, the request waits up to <code>maxWait</code>, and then fails with a {@link PrivyClientException.RateLimited}.
+ *
+ * @param permitsPerSecond The sustained number of requests per second.
+ * @param burst The number of requests that can be sent at once after a period of inactivity.
+ * @param maxWait How long a request can wait for a permit, <code>null</code> to wait as long as needed, or {@link Duration#ZERO} to never wait.
+ */
+@With
+public record RateLimit(
+	double permitsPerSecond,
+	int burst,
+	Duration maxWait
+) {
+
+	public RateLimit {
+		if (!(permitsPerSecond > 0)) {
+			throw new IllegalArgumentException("permitsPerSecond must be positive");
+		}
+
+		if (burst < 1) {
+			throw new IllegalArgumentException("burst must be positive");
+		}
+
+		if (maxWait != null && maxWait.isNegative()) {
+			throw new IllegalArgumentException("maxWait must not be negative");
+		}
+	}
+
+	/**
+	 * Create a limit waiting as long as needed for a permit.
+	 *
+	 * @param permitsPerSecond The sustained number of requests per second.
+	 * @param burst The number of requests that can be sent at once after a period of inactivity.
+	 * @return A new {@link RateLimit}.
+	 */
+	public static RateLimit of(double permitsPerSecond, int burst) {
+		return new RateLimit(permitsPerSecond, burst, null);
+	}
+
+}
@@ -0,0 +1,38 @@
+package dev.caceresenzo.privy.client;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.IncorrectClaimException;
+
+/**
+ * Marker of the exceptions thrown when a token has been rejected by the pre-check, before its signature has been verified. <br />
+ * The exceptions are still the usual {@link io.jsonwebtoken.JwtException JWT exceptions}, but their claims have <b>not</b> been verified and must not be trusted.
+ */
+public interface RejectedTokenException {
+
+	/**
+	 * Get the unverified claims of the rejected token.
+	 *
+	 * @return The unverified claims.
+	 */
+	Claims getClaims();
+
+	@SuppressWarnings("serial")
+	public static class Expired extends ExpiredJwtException implements RejectedTokenException {
+
+		public Expired(Claims claims, String message) {
+			super(null, claims, message);
+		}
+
+	}
+
+	@SuppressWarnings("serial")
+	public static class IncorrectClaim extends IncorrectClaimException implements RejectedTokenException {
+
+		public IncorrectClaim(Claims claims, String message, String claimName, Object claimValue) {
+			super(null, claims, claimName, claimValue, message);
+		}
+
+	}
+
+}
@@ -0,0 +1,56 @@
+package dev.caceresenzo.privy.client;
+
+import java.time.Duration;
+
+import lombok.With;
+
+/**
+ * How the requests failing with a transient error are retried. <br />
+ * The transient errors are the network errors, the rate limiting (<code>429</code>) and the unavailability (<code>503</code>) of the API.
+ *
+ * @param maxAttempts The maximum number of attempts of a request, including the first one, <code>1</code> to never retry.
+ * @param initialBackoff The maximum delay before the first retry, doubled at each retry. The actual delay is randomized between zero and that maximum.
+ * @param maxBackoff The maximum delay between two attempts. A <code>Retry-After</code> asking for longer is not retried.
+ * @param budgetRatio The number of retries earned by each request, so that the retries cannot amplify an outage.
+ * @param budgetCapacity The maximum number of retries that can be earned, which is also the initial number of retries available.
+ * @param retryNonIdempotent Also retry the requests which are not idempotent, such as setting the custom metadata.
+ */
+@With
+public record RetryPolicy(
+	int maxAttempts,
+	Duration initialBackoff,
+	Duration maxBackoff,
+	double budgetRatio,
+	int budgetCapacity,
+	boolean retryNonIdempotent
+) {
+
+	/** Retry up to 2 times, and at most 1 retry per 10 requests on the long run. */
+	public static final RetryPolicy DEFAULT = new RetryPolicy(3, Duration.ofMillis(100), Duration.ofSeconds(5), 0.1, 10, false);
+
+	/** Never retry. */
+	public static final RetryPolicy NONE = DEFAULT.withMaxAttempts(1);
+
+	public RetryPolicy {
+		if (maxAttempts < 1) {
+			throw new IllegalArgumentException("maxAttempts must be positive");
+		}
+
+		if (initialBackoff == null || initialBackoff.isNegative()) {
+			throw new IllegalArgumentException("initialBackoff must not be null or negative");
+		}
+
+		if (maxBackoff == null || maxBackoff.compareTo(initialBackoff) < 0) {
+			throw new IllegalArgumentException("maxBackoff must not be null or lower than initialBackoff");
+		}
+
+		if (budgetRatio < 0) {
+			throw new IllegalArgumentException("budgetRatio must not be negative");
+		}
+
+		if (budgetCapacity < 0) {
+			throw new IllegalArgumentException("budgetCapacity must not be negative");
+		}
+	}
+
+}
@@ -0,0 +1,33 @@
+package dev.caceresenzo.privy.client;
+
+import java.time.Duration;
+
+import dev.caceresenzo.privy.client.impl.http.HttpClients;
+import lombok.With;
+
+/**
+ * The timeouts of each attempt of a request.
+ *
+ * @param connectTimeout How long to wait for a connection to be established. A value different from the one of the {@link java.net.http.HttpClient HTTP client} makes the requests use another client, with its own connection pool.
+ * @param readTimeout How long to wait for the response once the request has been sent.
+ */
+@With
+public record Timeouts(
+	Duration connectTimeout,
+	Duration readTimeout
+) {
+
+	/** The timeouts of Feign: 10 seconds to connect, and 60 seconds to read. */
+	public static final Timeouts DEFAULT = new Timeouts(HttpClients.CONNECT_TIMEOUT, Duration.ofSeconds(60));
+
+	public Timeouts {
+		if (connectTimeout == null || connectTimeout.isNegative() || connectTimeout.isZero()) {
+			throw new IllegalArgumentException("connectTimeout must not be null and must be positive");
+		}
+
+		if (readTimeout == null || readTimeout.isNegative() || readTimeout.isZero()) {
+			throw new IllegalArgumentException("readTimeout must not be null and must be positive");
+		}
+	}
+
+}
@@ -0,0 +1,21 @@
+package dev.caceresenzo.privy.client;
+
+/**
+ * A snapshot of the activity of a token cache.
+ *
+ * @param size The number of tokens currently cached.
+ * @param hitCount The number of lookups that found a token, since the creation of the client.
+ * @param missCount The number of lookups that did not find a token, including the expired ones, since the creation of the client.
+ * @see PrivyClient#getVerifiedTokenCacheStatistics()
+ * @see PrivyClient#getRejectedTokenCacheStatistics()
+ */
+public record TokenCacheStatistics(
+	long size,
+	long hitCount,
+	long missCount
+) {
+
+	/** The statistics of a cache that is not configured. */
+	public static final TokenCacheStatistics EMPTY = new TokenCacheStatistics(0, 0, 0);
+
+}
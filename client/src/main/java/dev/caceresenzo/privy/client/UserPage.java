@@ -0,0 +1,26 @@
+package dev.caceresenzo.privy.client;
+
+import java.util.List;
+
+import dev.caceresenzo.privy.model.User;
+
+/**
+ * A page of users.
+ *
+ * @param users The users of the page.
+ * @param nextCursor The cursor of the next page, to resume after this page. <code>null</code> if this is the last page.
+ */
+public record UserPage(
+	List<User> users,
+	String nextCursor
+) {
+
+	public UserPage {
+		users = List.copyOf(users);
+	}
+
+	public boolean isLast() {
+		return nextCursor == null;
+	}
+
+}
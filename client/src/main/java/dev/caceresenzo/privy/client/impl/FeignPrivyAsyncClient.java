@@ -0,0 +1,67 @@
+package dev.caceresenzo.privy.client.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import dev.caceresenzo.privy.client.impl.FeignPrivyClient.AddressRequest;
+import dev.caceresenzo.privy.client.impl.FeignPrivyClient.CustomMetadataUpdateRequest;
+import dev.caceresenzo.privy.client.impl.FeignPrivyClient.CustomUserIdRequest;
+import dev.caceresenzo.privy.client.impl.FeignPrivyClient.PhoneRequest;
+import dev.caceresenzo.privy.client.impl.FeignPrivyClient.SubjectRequest;
+import dev.caceresenzo.privy.client.impl.FeignPrivyClient.UsernameRequest;
+import dev.caceresenzo.privy.model.ApplicationSettings;
+import dev.caceresenzo.privy.model.User;
+import feign.Headers;
+import feign.Param;
+import feign.RequestLine;
+
+/**
+ * Asynchronous counterpart of {@link FeignPrivyClient}.
+ */
+public interface FeignPrivyAsyncClient {
+
+	@RequestLine("GET /api/v1/users/{id}")
+	CompletableFuture<User> getUserById(@Param String id);
+
+	@RequestLine("DELETE /api/v1/users/{id}")
+	CompletableFuture<Void> deleteUserById(@Param String id);
+
+	@RequestLine("POST /api/v1/users/email/address")
+	@Headers(FeignPrivyClient.JSON_CONTENT_TYPE)
+	CompletableFuture<User> getUserByEmail(AddressRequest body);
+
+	@RequestLine("POST /api/v1/users/wallet/address")
+	@Headers(FeignPrivyClient.JSON_CONTENT_TYPE)
+	CompletableFuture<User> getUserByWallet(AddressRequest body);
+
+	@RequestLine("POST /api/v1/users/phone/number")
+	@Headers(FeignPrivyClient.JSON_CONTENT_TYPE)
+	CompletableFuture<User> getUserByPhone(PhoneRequest body);
+
+	@RequestLine("POST /api/v1/users/twitter/username")
+	@Headers(FeignPrivyClient.JSON_CONTENT_TYPE)
+	CompletableFuture<User> getUserByTwitterUsername(UsernameRequest body);
+
+	@RequestLine("POST /api/v1/users/twitter/subject")
+	@Headers(FeignPrivyClient.JSON_CONTENT_TYPE)
+	CompletableFuture<User> getUserByTwitterSubject(SubjectRequest body);
+
+	@RequestLine("POST /api/v1/users/discord/username")
+	@Headers(FeignPrivyClient.JSON_CONTENT_TYPE)
+	CompletableFuture<User> getUserByDiscordUsername(UsernameRequest body);
+
+	@RequestLine("POST /api/v1/users/github/username")
+	@Headers(FeignPrivyClient.JSON_CONTENT_TYPE)
+	CompletableFuture<User> getUserByGithubUsername(UsernameRequest body);
+
+	@RequestLine("POST /api/v1/users/custom_auth/id")
+	@Headers(FeignPrivyClient.JSON_CONTENT_TYPE)
+	CompletableFuture<User> getUserByCustomAuthId(CustomUserIdRequest body);
+
+	@RequestLine("POST /api/v1/users/{id}/custom_metadata")
+	@Headers(FeignPrivyClient.JSON_CONTENT_TYPE)
+	CompletableFuture<User> setCustomMetadata(@Param String id, CustomMetadataUpdateRequest body);
+
+	@RequestLine("GET /api/v1/apps/{applicationId}")
+	CompletableFuture<ApplicationSettings> getApplicationSettings(@Param String applicationId);
+
+}
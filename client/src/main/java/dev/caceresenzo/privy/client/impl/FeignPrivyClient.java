@@ -3,7 +3,10 @@ package dev.caceresenzo.privy.client.impl;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
-import dev.caceresenzo.privy.client.impl.pagination.Page;
+import dev.caceresenzo.privy.client.EndpointGroup;
+import dev.caceresenzo.privy.client.impl.pagination.PageReader;
+import dev.caceresenzo.privy.client.impl.ratelimit.Endpoint;
+import dev.caceresenzo.privy.client.impl.retry.NotIdempotent;
 import dev.caceresenzo.privy.model.ApplicationSettings;
 import dev.caceresenzo.privy.model.CustomMetadata;
 import dev.caceresenzo.privy.model.User;
@@ -16,19 +19,23 @@ public interface FeignPrivyClient {
 
 	String JSON_CONTENT_TYPE = "Content-Type: application/json";
 
+	@Endpoint(EndpointGroup.LIST)
 	@RequestLine("GET /api/v1/users?limit={limit}")
-	Page<User> getUsers(@Param long limit);
+	PageReader<User> getUsers(@Param long limit);
 
+	@Endpoint(EndpointGroup.LIST)
 	@RequestLine("GET /api/v1/users?limit={limit}&cursor={cursor}")
-	Page<User> getUsers(@Param long limit, @Param String cursor);
+	PageReader<User> getUsers(@Param long limit, @Param String cursor);
 
+	@Endpoint(EndpointGroup.LIST)
 	@RequestLine("POST /api/v1/users/search")
 	@Headers(JSON_CONTENT_TYPE)
-	Page<User> searchUsers(SearchRequest body);
+	PageReader<User> searchUsers(SearchRequest body);
 
 	@RequestLine("GET /api/v1/users/{id}")
 	User getUserById(@Param String id);
 
+	@Endpoint(EndpointGroup.WRITE)
 	@RequestLine("DELETE /api/v1/users/{id}")
 	void deleteUserById(@Param String id);
 
@@ -64,6 +71,8 @@ public interface FeignPrivyClient {
 	@Headers(JSON_CONTENT_TYPE)
 	User getUserByCustomAuthId(CustomUserIdRequest body);
 
+	@NotIdempotent
+	@Endpoint(EndpointGroup.WRITE)
 	@RequestLine("POST /api/v1/users/{id}/custom_metadata")
 	@Headers(JSON_CONTENT_TYPE)
 	User setCustomMetadata(@Param String id, CustomMetadataUpdateRequest body);
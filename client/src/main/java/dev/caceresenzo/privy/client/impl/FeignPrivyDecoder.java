@@ -0,0 +1,60 @@
+package dev.caceresenzo.privy.client.impl;
+
+import java.io.IOException;
+import java.io.PushbackInputStream;
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+
+import feign.Response;
+import feign.Util;
+import feign.codec.Decoder;
+
+/**
+ * Decode the responses from their bytes, with an {@link ObjectReader} built once per type.
+ */
+public class FeignPrivyDecoder implements Decoder {
+
+	private final ObjectMapper objectMapper;
+	private final ConcurrentHashMap<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+
+	public FeignPrivyDecoder(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	public Object decode(Response response, Type type) throws IOException {
+		if (response.status() == 404 || response.status() == 204) {
+			return Util.emptyValueOf(type);
+		}
+
+		final var body = response.body();
+		if (body == null) {
+			return null;
+		}
+
+		try (final var input = new PushbackInputStream(body.asInputStream())) {
+			final var first = input.read();
+			if (first == -1) {
+				return null;
+			}
+
+			input.unread(first);
+			return getReader(type).readValue(input);
+		} catch (RuntimeJsonMappingException exception) {
+			if (exception.getCause() instanceof IOException cause) {
+				throw cause;
+			}
+
+			throw exception;
+		}
+	}
+
+	public ObjectReader getReader(Type type) {
+		return readers.computeIfAbsent(type, (key) -> objectMapper.readerFor(objectMapper.constructType(key)));
+	}
+
+}
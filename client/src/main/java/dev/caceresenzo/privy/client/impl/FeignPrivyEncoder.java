@@ -0,0 +1,40 @@
+package dev.caceresenzo.privy.client.impl;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import feign.RequestTemplate;
+import feign.codec.EncodeException;
+import feign.codec.Encoder;
+
+/**
+ * Encode the request bodies to bytes, with an {@link ObjectWriter} built once per type.
+ */
+public class FeignPrivyEncoder implements Encoder {
+
+	private final ObjectMapper objectMapper;
+	private final ConcurrentHashMap<Type, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+	public FeignPrivyEncoder(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	public void encode(Object object, Type bodyType, RequestTemplate template) {
+		try {
+			template.body(getWriter(bodyType).writeValueAsBytes(object), StandardCharsets.UTF_8);
+		} catch (JsonProcessingException exception) {
+			throw new EncodeException(exception.getMessage(), exception);
+		}
+	}
+
+	public ObjectWriter getWriter(Type type) {
+		return writers.computeIfAbsent(type, (key) -> objectMapper.writerFor(objectMapper.constructType(key)));
+	}
+
+}
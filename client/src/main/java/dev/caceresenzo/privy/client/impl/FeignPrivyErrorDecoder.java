@@ -51,6 +51,20 @@ public class FeignPrivyErrorDecoder extends ErrorDecoder.Default {
 	public Exception decode(String methodKey, Response response) {
 		final var exception = (FeignException) super.decode(methodKey, response);
 
+		final var status = response.status();
+		if (status == 429 || status == 503) {
+			final var message = extractMessage(exception);
+			final var cause = status == 429
+				? new PrivyClientException.RateLimited(message, exception)
+				: new PrivyClientException.ServiceUnavailable(message, exception);
+
+			final var retryAfter = exception instanceof RetryableException retryableException
+				? retryableException.retryAfter()
+				: null;
+
+			return new RetryableException(status, exception.getMessage(), response.request().httpMethod(), cause, retryAfter, response.request());
+		}
+
 		if (exception instanceof RetryableException) {
 			return exception;
 		}
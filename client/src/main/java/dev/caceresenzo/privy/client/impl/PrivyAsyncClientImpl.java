@@ -0,0 +1,211 @@
+package dev.caceresenzo.privy.client.impl;
+
+import java.net.http.HttpClient;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import dev.caceresenzo.privy.client.PrivyAsyncClient;
+import dev.caceresenzo.privy.client.PrivyClientException;
+import dev.caceresenzo.privy.client.Timeouts;
+import dev.caceresenzo.privy.client.impl.FeignPrivyClient.AddressRequest;
+import dev.caceresenzo.privy.client.impl.FeignPrivyClient.CustomMetadataUpdateRequest;
+import dev.caceresenzo.privy.client.impl.FeignPrivyClient.CustomUserIdRequest;
+import dev.caceresenzo.privy.client.impl.FeignPrivyClient.PhoneRequest;
+import dev.caceresenzo.privy.client.impl.FeignPrivyClient.SubjectRequest;
+import dev.caceresenzo.privy.client.impl.FeignPrivyClient.UsernameRequest;
+import dev.caceresenzo.privy.client.impl.auth.AuthRequestInterceptor;
+import dev.caceresenzo.privy.client.impl.http.CompressionClient;
+import dev.caceresenzo.privy.client.impl.http.HttpClients;
+import dev.caceresenzo.privy.client.impl.timeout.TimeoutClient;
+import dev.caceresenzo.privy.model.ApplicationSettings;
+import dev.caceresenzo.privy.model.CustomMetadata;
+import dev.caceresenzo.privy.model.User;
+import dev.caceresenzo.privy.util.PrivyMapper;
+import feign.AsyncFeign;
+import feign.RetryableException;
+import feign.Retryer;
+import feign.http2client.Http2Client;
+import lombok.Getter;
+
+@Getter
+public class PrivyAsyncClientImpl implements PrivyAsyncClient {
+
+	private final String applicationId;
+	private final FeignPrivyAsyncClient delegate;
+
+	public PrivyAsyncClientImpl(
+		String apiUrl,
+		String applicationId,
+		String applicationSecret,
+		HttpClient httpClient,
+		Timeouts timeouts,
+		boolean compression
+	) {
+		Objects.requireNonNull(apiUrl, "apiUrl must be specified");
+		Objects.requireNonNull(applicationId, "applicationId must be specified");
+		Objects.requireNonNull(applicationSecret, "applicationSecret must be specified");
+		Objects.requireNonNull(timeouts, "timeouts must be specified");
+
+		this.applicationId = applicationId;
+
+		final var http2Client = new Http2Client(httpClient != null ? httpClient : HttpClients.shared());
+
+		this.delegate = AsyncFeign.<Object>builder()
+			.client(compression ? new CompressionClient(http2Client) : http2Client)
+			.encoder(new FeignPrivyEncoder(PrivyMapper.WIRE))
+			.decoder(new FeignPrivyDecoder(PrivyMapper.WIRE))
+			.requestInterceptor(new AuthRequestInterceptor(applicationId, applicationSecret))
+			.errorDecoder(new FeignPrivyErrorDecoder(PrivyMapper.WIRE))
+			.retryer(Retryer.NEVER_RETRY)
+			.options(TimeoutClient.toOptions(timeouts))
+			.target(FeignPrivyAsyncClient.class, apiUrl);
+	}
+
+	@Override
+	public CompletableFuture<Optional<User>> findUserById(String id) {
+		if (PrivyClientImpl.isBlank(id)) {
+			return CompletableFuture.completedFuture(Optional.empty());
+		}
+
+		return emptyIfNotFound(delegate.getUserById(id));
+	}
+
+	@Override
+	public CompletableFuture<Optional<User>> findUserByEmail(String address) {
+		if (PrivyClientImpl.isBlank(address)) {
+			return CompletableFuture.completedFuture(Optional.empty());
+		}
+
+		return emptyIfNotFound(delegate.getUserByEmail(new AddressRequest(address)));
+	}
+
+	@Override
+	public CompletableFuture<Optional<User>> findUserByWallet(String address) {
+		if (PrivyClientImpl.isBlank(address)) {
+			return CompletableFuture.completedFuture(Optional.empty());
+		}
+
+		return emptyIfNotFound(delegate.getUserByWallet(new AddressRequest(address)));
+	}
+
+	@Override
+	public CompletableFuture<Optional<User>> findUserByPhone(String number) {
+		if (PrivyClientImpl.isBlank(number)) {
+			return CompletableFuture.completedFuture(Optional.empty());
+		}
+
+		return emptyIfNotFound(delegate.getUserByPhone(new PhoneRequest(number)));
+	}
+
+	@Override
+	public CompletableFuture<Optional<User>> findUserByTwitterUsername(String username) {
+		if (PrivyClientImpl.isBlank(username)) {
+			return CompletableFuture.completedFuture(Optional.empty());
+		}
+
+		return emptyIfNotFound(delegate.getUserByTwitterUsername(new UsernameRequest(username)));
+	}
+
+	@Override
+	public CompletableFuture<Optional<User>> findUserByTwitterSubject(String subject) {
+		if (PrivyClientImpl.isBlank(subject)) {
+			return CompletableFuture.completedFuture(Optional.empty());
+		}
+
+		return emptyIfNotFound(delegate.getUserByTwitterSubject(new SubjectRequest(subject)));
+	}
+
+	@Override
+	public CompletableFuture<Optional<User>> findUserByDiscordUsername(String username) {
+		if (PrivyClientImpl.isBlank(username)) {
+			return CompletableFuture.completedFuture(Optional.empty());
+		}
+
+		return emptyIfNotFound(delegate.getUserByDiscordUsername(new UsernameRequest(username)));
+	}
+
+	@Override
+	public CompletableFuture<Optional<User>> findUserByGithubUsername(String username) {
+		if (PrivyClientImpl.isBlank(username)) {
+			return CompletableFuture.completedFuture(Optional.empty());
+		}
+
+		return emptyIfNotFound(delegate.getUserByGithubUsername(new UsernameRequest(username)));
+	}
+
+	@Override
+	public CompletableFuture<Optional<User>> findUserByCustomAuthId(String customUserId) {
+		if (PrivyClientImpl.isBlank(customUserId)) {
+			return CompletableFuture.completedFuture(Optional.empty());
+		}
+
+		return emptyIfNotFound(delegate.getUserByCustomAuthId(new CustomUserIdRequest(customUserId)));
+	}
+
+	@Override
+	public CompletableFuture<User> setCustomMetadata(String userId, CustomMetadata metadata) {
+		if (metadata == null) {
+			metadata = CustomMetadata.empty();
+		}
+
+		return unwrap(delegate.setCustomMetadata(userId, new CustomMetadataUpdateRequest(metadata)));
+	}
+
+	@Override
+	public CompletableFuture<Boolean> deleteUserById(String id) {
+		if (PrivyClientImpl.isBlank(id)) {
+			return CompletableFuture.completedFuture(false);
+		}
+
+		return emptyIfNotFound(delegate.deleteUserById(id).thenApply((__) -> true))
+			.thenApply((deleted) -> deleted.isPresent());
+	}
+
+	@Override
+	public CompletableFuture<ApplicationSettings> getApplicationSettings() {
+		return unwrap(delegate.getApplicationSettings(applicationId));
+	}
+
+	private static <T> CompletableFuture<Optional<T>> emptyIfNotFound(CompletableFuture<T> future) {
+		return future.handle((value, throwable) -> {
+			if (throwable == null) {
+				return Optional.of(value);
+			}
+
+			final var cause = unwrap(throwable);
+			if (cause instanceof PrivyClientException.UserNotFound) {
+				return Optional.empty();
+			}
+
+			throw new CompletionException(cause);
+		});
+	}
+
+	/**
+	 * Complete with the {@link PrivyClientException} of the transient failures, as the synchronous client gives up retrying them.
+	 */
+	private static <T> CompletableFuture<T> unwrap(CompletableFuture<T> future) {
+		return future.handle((value, throwable) -> {
+			if (throwable == null) {
+				return value;
+			}
+
+			throw new CompletionException(unwrap(throwable));
+		});
+	}
+
+	private static Throwable unwrap(Throwable throwable) {
+		if (throwable instanceof CompletionException && throwable.getCause() != null) {
+			throwable = throwable.getCause();
+		}
+
+		if (throwable instanceof RetryableException && throwable.getCause() instanceof PrivyClientException cause) {
+			return cause;
+		}
+
+		return throwable;
+	}
+
+}
@@ -1,20 +1,42 @@
 package dev.caceresenzo.privy.client.impl;
 
-import java.security.KeyFactory;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
 import java.security.PublicKey;
-import java.security.spec.X509EncodedKeySpec;
-import java.util.Base64;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-
+import dev.caceresenzo.privy.client.AuthTokenVerification;
+import dev.caceresenzo.privy.client.CircuitBreakerPolicy;
+import dev.caceresenzo.privy.client.CircuitBreakerState;
+import dev.caceresenzo.privy.client.CursorCheckpoint;
+import dev.caceresenzo.privy.client.EndpointGroup;
 import dev.caceresenzo.privy.client.PrivyClient;
 import dev.caceresenzo.privy.client.PrivyClientException;
+import dev.caceresenzo.privy.client.RateLimit;
+import dev.caceresenzo.privy.client.RetryPolicy;
+import dev.caceresenzo.privy.client.Timeouts;
+import dev.caceresenzo.privy.client.TokenCacheStatistics;
+import dev.caceresenzo.privy.client.UserPage;
 import dev.caceresenzo.privy.client.impl.FeignPrivyClient.AddressRequest;
 import dev.caceresenzo.privy.client.impl.FeignPrivyClient.CustomMetadataUpdateRequest;
 import dev.caceresenzo.privy.client.impl.FeignPrivyClient.CustomUserIdRequest;
@@ -22,39 +44,76 @@ import dev.caceresenzo.privy.client.impl.FeignPrivyClient.PhoneRequest;
 import dev.caceresenzo.privy.client.impl.FeignPrivyClient.SubjectRequest;
 import dev.caceresenzo.privy.client.impl.FeignPrivyClient.UsernameRequest;
 import dev.caceresenzo.privy.client.impl.auth.AuthRequestInterceptor;
+import dev.caceresenzo.privy.client.impl.cache.ExpiringCache;
+import dev.caceresenzo.privy.client.impl.cache.TokenDigest;
+import dev.caceresenzo.privy.client.impl.concurrent.VirtualThreads;
+import dev.caceresenzo.privy.client.impl.http.CompressionClient;
+import dev.caceresenzo.privy.client.impl.http.HttpClients;
+import dev.caceresenzo.privy.client.impl.key.VerificationKeyHolder;
+import dev.caceresenzo.privy.client.impl.key.VerificationKeys;
+import dev.caceresenzo.privy.client.impl.pagination.BufferedPageSpliterator;
+import dev.caceresenzo.privy.client.impl.pagination.Page;
+import dev.caceresenzo.privy.client.impl.pagination.PagePublisher;
 import dev.caceresenzo.privy.client.impl.pagination.PageSpliterator;
+import dev.caceresenzo.privy.client.impl.pagination.StreamingPageDecoder;
+import dev.caceresenzo.privy.client.impl.ratelimit.RateLimitedClient;
+import dev.caceresenzo.privy.client.impl.resilience.CircuitBreaker;
+import dev.caceresenzo.privy.client.impl.resilience.ResilientClient;
+import dev.caceresenzo.privy.client.impl.retry.PrivyRetryer;
+import dev.caceresenzo.privy.client.impl.timeout.Deadline;
+import dev.caceresenzo.privy.client.impl.timeout.TimeoutClient;
+import dev.caceresenzo.privy.client.impl.token.Es256TokenVerifier;
+import dev.caceresenzo.privy.client.impl.token.IdTokenUser;
+import dev.caceresenzo.privy.client.impl.token.TokenPrechecker;
 import dev.caceresenzo.privy.model.ApplicationSettings;
 import dev.caceresenzo.privy.model.CustomMetadata;
-import dev.caceresenzo.privy.model.LinkedAccount;
 import dev.caceresenzo.privy.model.User;
 import dev.caceresenzo.privy.util.PrivyMapper;
 import dev.caceresenzo.privy.util.serial.UnixDateDeserializer;
+import feign.Client;
 import feign.Feign;
-import feign.Retryer;
-import feign.jackson.JacksonDecoder;
-import feign.jackson.JacksonEncoder;
+import feign.http2client.Http2Client;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.JwtParserBuilder;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.Locator;
 import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.security.SignatureException;
 import lombok.Getter;
-import lombok.SneakyThrows;
 
 @Getter
 public class PrivyClientImpl implements PrivyClient {
 
-	private static final TypeReference<List<LinkedAccount>> LINKED_ACCOUNT_LIST_TYPE_REFERENCE = new TypeReference<>() {};
+	public static final String ISSUER = "privy.io";
 
 	private final String applicationId;
 	private final long maxPageSize;
+	private final int pagePrefetchDepth;
 	private final boolean cacheVerificationKey;
+	private final UnaryOperator<JwtParserBuilder> jwtParserCustomizer;
 	private final JwtParser jwtParser;
+	private final ConcurrentHashMap<PublicKey, JwtParser> keyJwtParsers;
+	private final ExpiringCache<TokenDigest, Jws<Claims>> verifiedTokenCache;
+	private final ExpiringCache<TokenDigest, JwtException> rejectedTokenCache;
+	private final Duration rejectedTokenCacheDuration;
+	private final Es256TokenVerifier es256TokenVerifier;
+	private final TokenPrechecker tokenPrechecker;
 
 	private final FeignPrivyClient delegate;
+	private final CircuitBreaker circuitBreaker;
+	private final Executor executor;
+	private final ExecutorService ownedExecutor;
+	private final Executor pageExecutor;
+	private final ExecutorService ownedPageExecutor;
+
+	private final PublicKey staticVerificationKey;
+	private final Path verificationKeyPersistenceFile;
+	private final VerificationKeyHolder verificationKeyHolder;
 
-	private PublicKey cachedVerificationKey = null;
+	private final Deadline deadline;
 
 	public PrivyClientImpl(
 		String apiUrl,
@@ -62,34 +121,205 @@ public class PrivyClientImpl implements PrivyClient {
 		String applicationSecret,
 		long maxPageSize,
 		boolean cacheVerificationKey,
-		UnaryOperator<JwtParserBuilder> jwtParserCustomizer
+		UnaryOperator<JwtParserBuilder> jwtParserCustomizer,
+		long verifiedTokenCacheSize,
+		Duration verificationKeyRefreshInterval,
+		Duration verificationKeyRefetchInterval,
+		PublicKey staticVerificationKey,
+		Path verificationKeyPersistenceFile,
+		boolean fastTokenVerification,
+		boolean tokenPrecheck,
+		Duration tokenPrecheckClockSkew,
+		long rejectedTokenCacheSize,
+		Duration rejectedTokenCacheDuration,
+		HttpClient httpClient,
+		Executor executor,
+		boolean virtualThreads,
+		RetryPolicy retryPolicy,
+		Map<EndpointGroup, RateLimit> rateLimits,
+		CircuitBreakerPolicy circuitBreakerPolicy,
+		Map<EndpointGroup, Integer> maxConcurrentCalls,
+		Timeouts timeouts,
+		Map<EndpointGroup, Timeouts> endpointTimeouts,
+		boolean compression,
+		int pagePrefetchDepth
 	) {
 		Objects.requireNonNull(apiUrl, "apiUrl must be specified");
 		Objects.requireNonNull(applicationId, "applicationId must be specified");
 		Objects.requireNonNull(applicationSecret, "applicationSecret must be specified");
+		Objects.requireNonNull(retryPolicy, "retryPolicy must be specified");
+		Objects.requireNonNull(rateLimits, "rateLimits must be specified");
+		Objects.requireNonNull(maxConcurrentCalls, "maxConcurrentCalls must be specified");
+		Objects.requireNonNull(timeouts, "timeouts must be specified");
+		Objects.requireNonNull(endpointTimeouts, "endpointTimeouts must be specified");
+
+		maxConcurrentCalls.forEach((group, value) -> {
+			if (value < 1) {
+				throw new IllegalArgumentException("maxConcurrentCalls of %s must be positive".formatted(group));
+			}
+		});
 
 		if (maxPageSize < 1) {
 			throw new IllegalArgumentException("maxPageSize must be positive");
 		}
 
+		if (pagePrefetchDepth < 0) {
+			throw new IllegalArgumentException("pagePrefetchDepth must not be negative");
+		}
+
+		if (verifiedTokenCacheSize < 0) {
+			throw new IllegalArgumentException("verifiedTokenCacheSize must not be negative");
+		}
+
+		if (rejectedTokenCacheSize < 0) {
+			throw new IllegalArgumentException("rejectedTokenCacheSize must not be negative");
+		}
+
+		Objects.requireNonNull(rejectedTokenCacheDuration, "rejectedTokenCacheDuration must be specified");
+		if (rejectedTokenCacheDuration.isZero() || rejectedTokenCacheDuration.isNegative()) {
+			throw new IllegalArgumentException("rejectedTokenCacheDuration must be positive");
+		}
+
+		if (executor != null && virtualThreads) {
+			throw new IllegalArgumentException("only one of executor or virtualThreads can be specified");
+		}
+
+		if (verificationKeyPersistenceFile != null && !cacheVerificationKey) {
+			throw new IllegalArgumentException("verificationKeyPersistenceFile requires cacheVerificationKey");
+		}
+
 		this.applicationId = applicationId;
 		this.maxPageSize = maxPageSize;
+		this.pagePrefetchDepth = pagePrefetchDepth;
+
+		this.ownedExecutor = virtualThreads
+			? VirtualThreads.newVirtualThreadPerTaskExecutor()
+			: null;
+		this.executor = virtualThreads
+			? ownedExecutor
+			: executor;
+
+		/* the page fetches block on the network, so they are never run on a shared pool */
+		this.ownedPageExecutor = this.executor == null
+			? Executors.newCachedThreadPool((runnable) -> {
+				final var thread = new Thread(runnable, "privy-page-fetch");
+				thread.setDaemon(true);
+
+				return thread;
+			})
+			: null;
+		this.pageExecutor = this.executor != null
+			? this.executor
+			: ownedPageExecutor;
 		this.cacheVerificationKey = cacheVerificationKey;
 
-		this.jwtParser = jwtParserCustomizer
-			.apply(Jwts.parser())
-			.keyLocator((__) -> getVerificationKey())
-			.requireAudience(applicationId)
-			.requireIssuer("privy.io")
-			.build();
+		this.jwtParserCustomizer = jwtParserCustomizer != null
+			? jwtParserCustomizer
+			: UnaryOperator.identity();
+		this.jwtParser = newJwtParser((__) -> getVerificationKey());
+		this.keyJwtParsers = new ConcurrentHashMap<>();
+
+		this.verifiedTokenCache = verifiedTokenCacheSize != 0
+			? new ExpiringCache<>(verifiedTokenCacheSize)
+			: null;
+
+		this.rejectedTokenCache = rejectedTokenCacheSize != 0
+			? new ExpiringCache<>(rejectedTokenCacheSize)
+			: null;
+		this.rejectedTokenCacheDuration = rejectedTokenCacheDuration;
+
+		/* the specialized verifier cannot apply the customizations, such as the required claims or the clock */
+		this.es256TokenVerifier = fastTokenVerification && jwtParserCustomizer == null
+			? new Es256TokenVerifier(ISSUER, applicationId)
+			: null;
+
+		this.tokenPrechecker = tokenPrecheck
+			? new TokenPrechecker(ISSUER, applicationId, tokenPrecheckClockSkew)
+			: null;
+
+		final var http2Client = new Http2Client(httpClient != null ? httpClient : HttpClients.shared());
+
+		Client client = new TimeoutClient(
+			compression ? new CompressionClient(http2Client) : http2Client,
+			timeouts,
+			endpointTimeouts
+		);
+		this.circuitBreaker = circuitBreakerPolicy != null
+			? new CircuitBreaker(circuitBreakerPolicy)
+			: null;
+
+		if (circuitBreaker != null || !maxConcurrentCalls.isEmpty()) {
+			client = new ResilientClient(client, circuitBreaker, maxConcurrentCalls);
+		}
+
+		/* outside of the circuit breaker and the bulkheads, so that waiting for a permit is neither a slow call nor holds a concurrent call */
+		if (!rateLimits.isEmpty()) {
+			client = new RateLimitedClient(client, rateLimits);
+		}
 
 		this.delegate = Feign.builder()
-			.encoder(new JacksonEncoder(PrivyMapper.INSTANCE))
-			.decoder(new JacksonDecoder(PrivyMapper.INSTANCE))
+			.client(client)
+			.encoder(new FeignPrivyEncoder(PrivyMapper.WIRE))
+			.decoder(new StreamingPageDecoder(PrivyMapper.WIRE, new FeignPrivyDecoder(PrivyMapper.WIRE)))
+			.doNotCloseAfterDecode()
 			.requestInterceptor(new AuthRequestInterceptor(applicationId, applicationSecret))
-			.errorDecoder(new FeignPrivyErrorDecoder(PrivyMapper.INSTANCE))
-			.retryer(Retryer.NEVER_RETRY)
+			.errorDecoder(new FeignPrivyErrorDecoder(PrivyMapper.WIRE))
+			.retryer(new PrivyRetryer(retryPolicy))
 			.target(FeignPrivyClient.class, apiUrl);
+
+		this.staticVerificationKey = staticVerificationKey;
+		this.verificationKeyPersistenceFile = verificationKeyPersistenceFile;
+
+		if (staticVerificationKey != null) {
+			this.verificationKeyHolder = new VerificationKeyHolder(() -> staticVerificationKey, null, verificationKeyRefetchInterval, this.executor);
+			this.verificationKeyHolder.set(staticVerificationKey);
+		} else if (cacheVerificationKey) {
+			this.verificationKeyHolder = new VerificationKeyHolder(this::fetchVerificationKey, verificationKeyRefreshInterval, verificationKeyRefetchInterval, this.executor);
+
+			final var persistedVerificationKey = readPersistedVerificationKey();
+			if (persistedVerificationKey != null) {
+				this.verificationKeyHolder.set(persistedVerificationKey);
+			}
+		} else {
+			this.verificationKeyHolder = null;
+		}
+
+		this.deadline = null;
+	}
+
+	/** Create a view of a client, sharing all of its resources, with all of its calls made under a deadline. */
+	private PrivyClientImpl(PrivyClientImpl source, Deadline deadline) {
+		this.applicationId = source.applicationId;
+		this.maxPageSize = source.maxPageSize;
+		this.pagePrefetchDepth = source.pagePrefetchDepth;
+		this.cacheVerificationKey = source.cacheVerificationKey;
+		this.jwtParserCustomizer = source.jwtParserCustomizer;
+		this.jwtParser = source.jwtParser;
+		this.keyJwtParsers = source.keyJwtParsers;
+		this.verifiedTokenCache = source.verifiedTokenCache;
+		this.rejectedTokenCache = source.rejectedTokenCache;
+		this.rejectedTokenCacheDuration = source.rejectedTokenCacheDuration;
+		this.es256TokenVerifier = source.es256TokenVerifier;
+		this.tokenPrechecker = source.tokenPrechecker;
+		this.delegate = deadline.bind(FeignPrivyClient.class, source.delegate);
+		this.circuitBreaker = source.circuitBreaker;
+		this.executor = source.executor;
+		this.ownedExecutor = source.ownedExecutor;
+		this.pageExecutor = source.pageExecutor;
+		this.ownedPageExecutor = source.ownedPageExecutor;
+		this.staticVerificationKey = source.staticVerificationKey;
+		this.verificationKeyPersistenceFile = source.verificationKeyPersistenceFile;
+		this.verificationKeyHolder = source.verificationKeyHolder;
+		this.deadline = deadline;
+	}
+
+	private JwtParser newJwtParser(Locator<Key> keyLocator) {
+		return jwtParserCustomizer
+			.apply(Jwts.parser())
+			.keyLocator(keyLocator)
+			.requireAudience(applicationId)
+			.requireIssuer(ISSUER)
+			.build();
 	}
 
 	@Override
@@ -98,7 +328,9 @@ public class PrivyClientImpl implements PrivyClient {
 
 		return new PageSpliterator<>(
 			firstPage,
-			(nextCursor) -> delegate.getUsers(maxPageSize, nextCursor)
+			(nextCursor) -> delegate.getUsers(maxPageSize, nextCursor),
+			pageExecutor,
+			pagePrefetchDepth
 		).asStream();
 	}
 
@@ -114,10 +346,149 @@ public class PrivyClientImpl implements PrivyClient {
 
 		return new PageSpliterator<>(
 			firstPage,
-			(nextCursor) -> delegate.searchUsers(body.withCursor(nextCursor))
+			(nextCursor) -> delegate.searchUsers(body.withCursor(nextCursor)),
+			pageExecutor,
+			pagePrefetchDepth
 		).asStream();
 	}
 
+	@Override
+	public Flow.Publisher<User> publishAllUsers() {
+		return new PagePublisher<>(
+			() -> delegate.getUsers(maxPageSize),
+			(nextCursor) -> delegate.getUsers(maxPageSize, nextCursor),
+			pageExecutor
+		);
+	}
+
+	@Override
+	public Flow.Publisher<User> publishAllUsers(String searchTerm) {
+		final var body = new FeignPrivyClient.SearchRequest(
+			searchTerm,
+			maxPageSize,
+			null
+		);
+
+		return new PagePublisher<>(
+			() -> delegate.searchUsers(body),
+			(nextCursor) -> delegate.searchUsers(body.withCursor(nextCursor)),
+			pageExecutor
+		);
+	}
+
+	@Override
+	public void forEachUserParallel(Consumer<User> consumer, int parallelism) {
+		Objects.requireNonNull(consumer, "consumer must be specified");
+
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("parallelism must be positive");
+		}
+
+		final var futures = new ArrayList<CompletableFuture<Void>>(parallelism);
+
+		try (final var pages = findAllUsersByPage()) {
+			final var iterator = pages.iterator();
+
+			while (true) {
+				if (futures.size() == parallelism) {
+					awaitAny(futures);
+				}
+
+				if (!iterator.hasNext()) {
+					break;
+				}
+
+				final var page = iterator.next();
+				futures.add(CompletableFuture.runAsync(() -> page.forEach(consumer), pageExecutor));
+			}
+
+			CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+		} catch (CompletionException exception) {
+			if (exception.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+
+			throw exception;
+		} finally {
+			/* do not process the pages already handed over after a failure */
+			futures.forEach((future) -> future.cancel(false));
+		}
+	}
+
+	/** Wait for at least one of the futures to complete, and remove the completed ones. */
+	private static void awaitAny(List<CompletableFuture<Void>> futures) {
+		CompletableFuture.anyOf(futures.toArray(CompletableFuture[]::new)).join();
+
+		futures.removeIf((future) -> {
+			if (!future.isDone()) {
+				return false;
+			}
+
+			future.join();
+			return true;
+		});
+	}
+
+	@Override
+	public Stream<List<User>> findAllUsersByPage() {
+		return streamPages(null)
+			.map(Page::data);
+	}
+
+	@Override
+	public Stream<List<User>> findAllUsersByPage(String searchTerm) {
+		return streamPages(searchTerm, null)
+			.map(Page::data);
+	}
+
+	@Override
+	public Stream<UserPage> findUserPages(String startCursor) {
+		return streamPages(startCursor)
+			.map((page) -> new UserPage(page.data(), page.nextCursor()));
+	}
+
+	@Override
+	public Stream<UserPage> findUserPages(String searchTerm, String startCursor) {
+		return streamPages(searchTerm, startCursor)
+			.map((page) -> new UserPage(page.data(), page.nextCursor()));
+	}
+
+	private Stream<Page<User>> streamPages(String startCursor) {
+		return new BufferedPageSpliterator<>(
+			startCursor,
+			(cursor) -> cursor != null
+				? delegate.getUsers(maxPageSize, cursor)
+				: delegate.getUsers(maxPageSize)
+		).asStream();
+	}
+
+	private Stream<Page<User>> streamPages(String searchTerm, String startCursor) {
+		final var body = new FeignPrivyClient.SearchRequest(
+			searchTerm,
+			maxPageSize,
+			null
+		);
+
+		return new BufferedPageSpliterator<>(
+			startCursor,
+			(cursor) -> delegate.searchUsers(body.withCursor(cursor))
+		).asStream();
+	}
+
+	@Override
+	public void exportAllUsers(CursorCheckpoint checkpoint, Consumer<UserPage> pageConsumer) {
+		Objects.requireNonNull(checkpoint, "checkpoint must be specified");
+		Objects.requireNonNull(pageConsumer, "pageConsumer must be specified");
+
+		findUserPages(checkpoint.load()).forEach((page) -> {
+			pageConsumer.accept(page);
+			checkpoint.save(page.nextCursor());
+		});
+
+		/* the last page may have been an empty one, whose cursor was never saved */
+		checkpoint.save(null);
+	}
+
 	@Override
 	public Optional<User> findUserById(String id) {
 		if (isBlank(id)) {
@@ -263,86 +634,320 @@ public class PrivyClientImpl implements PrivyClient {
 	public ApplicationSettings getApplicationSettings() {
 		final var applicationSettings = delegate.getApplicationSettings(applicationId);
 
-		if (cacheVerificationKey) {
-			cachedVerificationKey = parsePublicKey(applicationSettings);
+		if (verificationKeyHolder != null && staticVerificationKey == null) {
+			final var publicKey = VerificationKeys.parse(applicationSettings.getVerificationKey());
+
+			persistVerificationKey(publicKey);
+			verificationKeyHolder.set(publicKey);
 		}
 
 		return applicationSettings;
 	}
 
-	@SneakyThrows
 	@Override
 	public PublicKey getVerificationKey() {
-		if (cacheVerificationKey && cachedVerificationKey != null) {
-			return cachedVerificationKey;
+		if (verificationKeyHolder != null) {
+			return verificationKeyHolder.get();
+		}
+
+		return fetchVerificationKey();
+	}
+
+	private PublicKey fetchVerificationKey() {
+		if (staticVerificationKey != null) {
+			return staticVerificationKey;
 		}
 
 		final var applicationSettings = delegate.getApplicationSettings(applicationId);
-		final var publicKey = parsePublicKey(applicationSettings);
+		final var publicKey = VerificationKeys.parse(applicationSettings.getVerificationKey());
 
-		if (cacheVerificationKey) {
-			cachedVerificationKey = publicKey;
+		if (verificationKeyHolder != null) {
+			persistVerificationKey(publicKey);
 		}
 
 		return publicKey;
 	}
 
-	@SneakyThrows
-	private PublicKey parsePublicKey(ApplicationSettings applicationSettings) {
-		final var publicKeyString = applicationSettings.getVerificationKey()
-			.replace("-----BEGIN PUBLIC KEY-----", "")
-			.replace("-----END PUBLIC KEY-----", "")
-			.replaceAll("\\s", "");
+	private PublicKey readPersistedVerificationKey() {
+		if (verificationKeyPersistenceFile == null || !Files.exists(verificationKeyPersistenceFile)) {
+			return null;
+		}
 
-		final var publicKeyBytes = Base64.getDecoder().decode(publicKeyString);
+		try {
+			return VerificationKeys.read(verificationKeyPersistenceFile);
+		} catch (IOException | IllegalArgumentException __) {
+			/* an unreadable file is the same as no file, the key will be fetched */
+			return null;
+		}
+	}
 
-		final var keySpec = new X509EncodedKeySpec(publicKeyBytes);
-		final var keyFactory = KeyFactory.getInstance("EC");
+	/** Persist a key before it is made the current one, the current one being what the file already holds. */
+	private void persistVerificationKey(PublicKey publicKey) {
+		if (verificationKeyPersistenceFile == null || publicKey.equals(verificationKeyHolder.getIfLoaded())) {
+			return;
+		}
 
-		return keyFactory.generatePublic(keySpec);
+		try {
+			VerificationKeys.write(verificationKeyPersistenceFile, publicKey);
+		} catch (IOException __) {
+			/* persisting is only an optimization for the next startup */
+		}
 	}
 
 	@Override
 	public Jws<Claims> verifyAuthToken(String token) {
-		return jwtParser.parseSignedClaims(token);
+		return verifyAuthToken(token, null, jwtParser);
 	}
 
 	@Override
-	public User getUserFromIdToken(String idToken) {
-		final var jwt = verifyAuthToken(idToken);
-		final var payload = jwt.getPayload();
+	public Map<String, AuthTokenVerification> verifyAuthTokens(Collection<String> tokens) {
+		return verifyAuthTokens(tokens, executor);
+	}
 
-		final var linkedAccountsJson = payload.get("linked_accounts");
-		if (!(linkedAccountsJson instanceof String linkedAccountsString)) {
-			throw new MalformedJwtException("linked_accounts is not a string");
+	@Override
+	public Map<String, AuthTokenVerification> verifyAuthTokens(Collection<String> tokens, Executor executor) {
+		final var results = new LinkedHashMap<String, AuthTokenVerification>();
+		if (tokens.isEmpty()) {
+			return results;
+		}
+
+		final var verificationKey = getVerificationKey();
+
+		/* resolved once for the whole batch, a parser is built for each call when the key is not cached */
+		final var keyJwtParser = getJwtParser(verificationKey);
+
+		if (executor == null) {
+			for (final var token : tokens) {
+				results.computeIfAbsent(token, (__) -> tryVerifyAuthToken(token, verificationKey, keyJwtParser));
+			}
+
+			return results;
+		}
+
+		final var futures = new LinkedHashMap<String, CompletableFuture<AuthTokenVerification>>();
+		for (final var token : tokens) {
+			futures.computeIfAbsent(token, (__) -> CompletableFuture.supplyAsync(() -> tryVerifyAuthToken(token, verificationKey, keyJwtParser), executor));
+		}
+
+		try {
+			futures.forEach((token, future) -> results.put(token, future.join()));
+		} catch (CompletionException exception) {
+			/* fail like the sequential verification does */
+			if (exception.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+
+			if (exception.getCause() instanceof Error cause) {
+				throw cause;
+			}
+
+			throw exception;
+		}
+
+		return results;
+	}
+
+	private AuthTokenVerification tryVerifyAuthToken(String token, PublicKey verificationKey, JwtParser keyJwtParser) {
+		try {
+			return new AuthTokenVerification(verifyAuthToken(token, verificationKey, keyJwtParser), null);
+		} catch (JwtException | IllegalArgumentException exception) {
+			return new AuthTokenVerification(null, exception);
+		}
+	}
+
+	/**
+	 * Verify an auth token.
+	 *
+	 * @param token The auth token.
+	 * @param verificationKey The verification key to try first, <code>null</code> to resolve it.
+	 * @param keyJwtParser The parser of the verification key to try first, as given by {@link #getJwtParser(PublicKey)}.
+	 * @return The parsed JWT.
+	 */
+	private Jws<Claims> verifyAuthToken(String token, PublicKey verificationKey, JwtParser keyJwtParser) {
+		final var digest = verifiedTokenCache != null || rejectedTokenCache != null
+			? TokenDigest.of(token)
+			: null;
+
+		if (verifiedTokenCache != null) {
+			final var cached = verifiedTokenCache.get(digest);
+			if (cached != null) {
+				return cached;
+			}
 		}
 
-		final List<LinkedAccount> linkedAccounts;
+		if (rejectedTokenCache != null) {
+			final var rejection = rejectedTokenCache.get(digest);
+			if (rejection != null) {
+				throw rejection;
+			}
+		}
+
+		final Jws<Claims> jwt;
 		try {
-			linkedAccounts = PrivyMapper.INSTANCE.readValue(linkedAccountsString, LINKED_ACCOUNT_LIST_TYPE_REFERENCE);
-		} catch (JsonProcessingException exception) {
-			throw new MalformedJwtException("failed to parse linked accounts", exception);
+			if (tokenPrechecker != null) {
+				tokenPrechecker.check(token);
+			}
+
+			jwt = parseSignedClaims(token, verificationKey, keyJwtParser);
+		} catch (JwtException exception) {
+			if (rejectedTokenCache != null) {
+				rejectedTokenCache.put(digest, exception, rejectedTokenCacheDuration);
+			}
+
+			throw exception;
 		}
 
-		CustomMetadata customMetadata = null;
-		if (payload.get("custom_metadata") instanceof String customMetadataString) {
+		if (verifiedTokenCache != null) {
+			final var expiration = jwt.getPayload().getExpiration();
+
+			if (expiration != null) {
+				verifiedTokenCache.put(digest, jwt, expiration.getTime());
+			}
+		}
+
+		return jwt;
+	}
+
+	private Jws<Claims> parseSignedClaims(String token, PublicKey verificationKey, JwtParser keyJwtParser) {
+		if (es256TokenVerifier != null && (verificationKey != null || verificationKeyHolder != null)) {
+			final var jwt = es256TokenVerifier.verify(token, verificationKey != null ? verificationKey : verificationKeyHolder.get());
+			if (jwt != null) {
+				return jwt;
+			}
+		}
+
+		try {
+			return keyJwtParser.parseSignedClaims(token);
+		} catch (SignatureException exception) {
+			if (verificationKeyHolder == null) {
+				throw exception;
+			}
+
+			final var jwt = parseSignedClaimsWithPreviousKeys(token);
+			if (jwt != null) {
+				return jwt;
+			}
+
+			if (verificationKeyHolder.refetch()) {
+				keyJwtParsers.keySet().retainAll(verificationKeyHolder.getAll());
+
+				return jwtParser.parseSignedClaims(token);
+			}
+
+			throw exception;
+		}
+	}
+
+	private JwtParser getJwtParser(PublicKey verificationKey) {
+		if (verificationKey == null) {
+			return jwtParser;
+		}
+
+		if (verificationKeyHolder == null) {
+			return newJwtParser((__) -> verificationKey);
+		}
+
+		return keyJwtParsers.computeIfAbsent(verificationKey, (__) -> newJwtParser((___) -> verificationKey));
+	}
+
+	private Jws<Claims> parseSignedClaimsWithPreviousKeys(String token) {
+		final var keys = verificationKeyHolder.getAll();
+
+		for (var index = 1; index < keys.size(); ++index) {
+			final var key = keys.get(index);
+			final var parser = getJwtParser(key);
+
 			try {
-				customMetadata = PrivyMapper.INSTANCE.readValue(customMetadataString, CustomMetadata.class);
-			} catch (JsonProcessingException exception) {
-				throw new MalformedJwtException("failed to parse linked accounts", exception);
+				return parser.parseSignedClaims(token);
+			} catch (SignatureException __) {
+				continue;
 			}
 		}
 
-		final var user = new User();
+		return null;
+	}
+
+	@Override
+	public User getUserFromIdToken(String idToken) {
+		final var jwt = verifyAuthToken(idToken);
+		final var payload = jwt.getPayload();
+
+		final var linkedAccountsJson = payload.get("linked_accounts");
+		if (!(linkedAccountsJson instanceof String linkedAccountsString)) {
+			throw new MalformedJwtException("linked_accounts is not a string");
+		}
+
+		final var customMetadataJson = payload.get("custom_metadata") instanceof String customMetadataString
+			? customMetadataString
+			: null;
+
+		final var user = new IdTokenUser(linkedAccountsString, customMetadataJson);
 		user.setId(payload.getSubject());
-		user.setLinkedAccounts(linkedAccounts);
 		user.setGuest("t".equals(payload.get("guest")));
-		user.setCustomMetadata(customMetadata);
 		user.setCreatedAt(UnixDateDeserializer.fromTimestamp(Long.valueOf(payload.get("cr", String.class))));
 
 		return user;
 	}
 
+	@Override
+	public String getUserIdFromIdToken(String idToken) {
+		return verifyAuthToken(idToken).getPayload().getSubject();
+	}
+
+	@Override
+	public CircuitBreakerState getCircuitBreakerState() {
+		if (circuitBreaker == null) {
+			return CircuitBreakerState.CLOSED;
+		}
+
+		return circuitBreaker.getState();
+	}
+
+	@Override
+	public TokenCacheStatistics getVerifiedTokenCacheStatistics() {
+		return toStatistics(verifiedTokenCache);
+	}
+
+	@Override
+	public TokenCacheStatistics getRejectedTokenCacheStatistics() {
+		return toStatistics(rejectedTokenCache);
+	}
+
+	private static TokenCacheStatistics toStatistics(ExpiringCache<?, ?> cache) {
+		if (cache == null) {
+			return TokenCacheStatistics.EMPTY;
+		}
+
+		return new TokenCacheStatistics(cache.size(), cache.hitCount(), cache.missCount());
+	}
+
+	@Override
+	public PrivyClient withDeadline(Duration timeout) {
+		Objects.requireNonNull(timeout, "timeout must be specified");
+
+		return new PrivyClientImpl(this, Deadline.after(timeout));
+	}
+
+	@Override
+	public void close() {
+		if (deadline != null) {
+			/* the resources are owned by the source client */
+			return;
+		}
+
+		if (verificationKeyHolder != null) {
+			verificationKeyHolder.close();
+		}
+
+		if (ownedExecutor != null) {
+			ownedExecutor.shutdown();
+		}
+
+		if (ownedPageExecutor != null) {
+			ownedPageExecutor.shutdown();
+		}
+	}
+
 	public static boolean isBlank(String value) {
 		return value == null || value.isBlank();
 	}
@@ -0,0 +1,159 @@
+package dev.caceresenzo.privy.client.impl.cache;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import lombok.Getter;
+
+/**
+ * A size bounded cache whose entries each carry their own expiration time. <br />
+ * Reads are lock-free, eviction is done by a single thread at a time when the cache grows over its maximum size. <br />
+ * Writers that push the cache over its maximum size wait for the eviction, so the size is only exceeded while concurrent writes are in flight.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ */
+public class ExpiringCache<K, V> {
+
+	private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+
+	@Getter
+	private final long maximumSize;
+	private final LongSupplier clock;
+
+	public ExpiringCache(long maximumSize) {
+		this(maximumSize, System::currentTimeMillis);
+	}
+
+	public ExpiringCache(long maximumSize, LongSupplier clock) {
+		if (maximumSize < 1) {
+			throw new IllegalArgumentException("maximumSize must be positive");
+		}
+
+		this.maximumSize = maximumSize;
+		this.clock = clock;
+	}
+
+	/**
+	 * Get a value if it is present and not yet expired.
+	 *
+	 * @param key The key to look for.
+	 * @return The value, or <code>null</code> if absent or expired.
+	 */
+	public V get(K key) {
+		final var entry = entries.get(key);
+		if (entry == null) {
+			missCount.increment();
+			return null;
+		}
+
+		if (entry.isExpired(clock.getAsLong())) {
+			entries.remove(key, entry);
+			missCount.increment();
+			return null;
+		}
+
+		hitCount.increment();
+		return entry.value();
+	}
+
+	/**
+	 * Store a value until a given time.
+	 *
+	 * @param key The key to store the value at.
+	 * @param value The value to store.
+	 * @param expiresAtMillis The epoch time, in milliseconds, after which the value must no longer be returned.
+	 */
+	public void put(K key, V value, long expiresAtMillis) {
+		if (expiresAtMillis <= clock.getAsLong()) {
+			return;
+		}
+
+		entries.put(key, new Entry<>(value, expiresAtMillis));
+
+		if (entries.size() > maximumSize) {
+			evict();
+		}
+	}
+
+	/**
+	 * Store a value for a given duration.
+	 *
+	 * @param key The key to store the value at.
+	 * @param value The value to store.
+	 * @param timeToLive The duration after which the value must no longer be returned.
+	 */
+	public void put(K key, V value, Duration timeToLive) {
+		put(key, value, clock.getAsLong() + timeToLive.toMillis());
+	}
+
+	public void invalidate(K key) {
+		entries.remove(key);
+	}
+
+	public void invalidateAll() {
+		entries.clear();
+	}
+
+	public long size() {
+		return entries.size();
+	}
+
+	/**
+	 * Get the number of lookups that returned a value.
+	 *
+	 * @return The hit count since the creation of the cache.
+	 */
+	public long hitCount() {
+		return hitCount.sum();
+	}
+
+	/**
+	 * Get the number of lookups that did not return a value, including the expired ones.
+	 *
+	 * @return The miss count since the creation of the cache.
+	 */
+	public long missCount() {
+		return missCount.sum();
+	}
+
+	private void evict() {
+		evictionLock.lock();
+
+		try {
+			/* another writer may have evicted while we were waiting */
+			if (entries.size() <= maximumSize) {
+				return;
+			}
+
+			final var now = clock.getAsLong();
+			entries.values().removeIf((entry) -> entry.isExpired(now));
+
+			final var iterator = entries.keySet().iterator();
+			while (entries.size() > maximumSize && iterator.hasNext()) {
+				iterator.next();
+				iterator.remove();
+			}
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private static record Entry<V>(
+		V value,
+		long expiresAtMillis
+	) {
+
+		public boolean isExpired(long now) {
+			return now >= expiresAtMillis;
+		}
+
+	}
+
+}
@@ -0,0 +1,38 @@
+package dev.caceresenzo.privy.client.impl.cache;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * A SHA-256 digest of a token, used as a cache key so that the raw tokens are never kept in memory.
+ */
+public record TokenDigest(
+	long first,
+	long second,
+	long third,
+	long fourth
+) {
+
+	private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException exception) {
+			throw new IllegalStateException("SHA-256 is not available", exception);
+		}
+	});
+
+	public static TokenDigest of(String token) {
+		final var digest = SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+		final var buffer = ByteBuffer.wrap(digest);
+
+		return new TokenDigest(
+			buffer.getLong(),
+			buffer.getLong(),
+			buffer.getLong(),
+			buffer.getLong()
+		);
+	}
+
+}
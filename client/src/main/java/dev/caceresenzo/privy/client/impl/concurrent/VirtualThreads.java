@@ -0,0 +1,60 @@
+package dev.caceresenzo.privy.client.impl.concurrent;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Access to the virtual threads, which are only available since Java 21 while the client is compiled for Java 17.
+ */
+@UtilityClass
+public class VirtualThreads {
+
+	private static final MethodHandle NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findNewVirtualThreadPerTaskExecutor();
+
+	/**
+	 * Check if the virtual threads are available on the running JVM.
+	 *
+	 * @return <code>true</code> if they are available.
+	 */
+	public static boolean isSupported() {
+		return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+	}
+
+	/**
+	 * Create an executor that starts a new virtual thread for each task.
+	 *
+	 * @return A new {@link ExecutorService}.
+	 * @throws UnsupportedOperationException If the virtual threads are not available.
+	 */
+	public static ExecutorService newVirtualThreadPerTaskExecutor() {
+		if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR == null) {
+			throw new UnsupportedOperationException("virtual threads requires Java 21 or later");
+		}
+
+		try {
+			return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invokeExact();
+		} catch (RuntimeException | Error exception) {
+			throw exception;
+		} catch (Throwable throwable) {
+			throw new IllegalStateException("could not create a virtual thread executor", throwable);
+		}
+	}
+
+	private static MethodHandle findNewVirtualThreadPerTaskExecutor() {
+		try {
+			return MethodHandles.publicLookup().findStatic(
+				Executors.class,
+				"newVirtualThreadPerTaskExecutor",
+				MethodType.methodType(ExecutorService.class)
+			);
+		} catch (NoSuchMethodException | IllegalAccessException __) {
+			return null;
+		}
+	}
+
+}
@@ -0,0 +1,99 @@
+package dev.caceresenzo.privy.client.impl.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import feign.AsyncClient;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.http2client.Http2Client;
+
+/**
+ * Ask for compressed responses, and decompress them before they are decoded. <br />
+ * The {@link java.net.http.HttpClient HTTP client} does not handle the compression by itself.
+ */
+public class CompressionClient implements Client, AsyncClient<Object> {
+
+	public static final String ACCEPT_ENCODING_HEADER = "Accept-Encoding";
+	public static final String CONTENT_ENCODING_HEADER = "Content-Encoding";
+	public static final String CONTENT_LENGTH_HEADER = "Content-Length";
+	public static final String ACCEPTED_ENCODINGS = "gzip, deflate";
+
+	private final Http2Client delegate;
+
+	public CompressionClient(Http2Client delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public Response execute(Request request, Request.Options options) throws IOException {
+		return decompress(delegate.execute(withAcceptEncoding(request), options));
+	}
+
+	@Override
+	public CompletableFuture<Response> execute(Request request, Request.Options options, Optional<Object> requestContext) {
+		return delegate.execute(withAcceptEncoding(request), options, requestContext)
+			.thenCompose((response) -> {
+				try {
+					return CompletableFuture.completedFuture(decompress(response));
+				} catch (IOException exception) {
+					return CompletableFuture.failedFuture(exception);
+				}
+			});
+	}
+
+	static Request withAcceptEncoding(Request request) {
+		final var headers = new TreeMap<String, Collection<String>>(String.CASE_INSENSITIVE_ORDER);
+		headers.putAll(request.headers());
+
+		if (headers.containsKey(ACCEPT_ENCODING_HEADER)) {
+			return request;
+		}
+
+		headers.put(ACCEPT_ENCODING_HEADER, List.of(ACCEPTED_ENCODINGS));
+
+		return Request.create(request.httpMethod(), request.url(), headers, request.body(), request.charset(), request.requestTemplate());
+	}
+
+	static Response decompress(Response response) throws IOException {
+		final var body = response.body();
+		if (body == null || Integer.valueOf(0).equals(body.length()) || response.status() == 204 || response.status() == 304) {
+			return response;
+		}
+
+		final var encodings = response.headers().get(CONTENT_ENCODING_HEADER);
+		if (encodings == null || encodings.isEmpty()) {
+			return response;
+		}
+
+		final InputStream input = switch (encodings.iterator().next().trim().toLowerCase(Locale.ROOT)) {
+			case "gzip", "x-gzip" -> new GZIPInputStream(body.asInputStream());
+			case "deflate" -> new InflaterInputStream(body.asInputStream());
+			default -> null;
+		};
+
+		if (input == null) {
+			return response;
+		}
+
+		final var headers = new TreeMap<String, Collection<String>>(String.CASE_INSENSITIVE_ORDER);
+		headers.putAll(response.headers());
+		headers.remove(CONTENT_ENCODING_HEADER);
+		headers.remove(CONTENT_LENGTH_HEADER);
+
+		return response.toBuilder()
+			.headers(headers)
+			.body(input, null)
+			.build();
+	}
+
+}
@@ -0,0 +1,46 @@
+package dev.caceresenzo.privy.client.impl.http;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Holder of the {@link HttpClient} shared by all the clients that have not been given one. <br />
+ * Its connection pool is tuned with the <code>jdk.httpclient.connectionPoolSize</code> and <code>jdk.httpclient.keepalive.timeout</code> system properties.
+ */
+@UtilityClass
+public class HttpClients {
+
+	/** Same as the default connect timeout of Feign, so that the client is used as-is for every request. */
+	public static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+	/**
+	 * Get the shared client, creating it on first use.
+	 *
+	 * @return The shared {@link HttpClient}.
+	 */
+	public static HttpClient shared() {
+		return SharedHolder.INSTANCE;
+	}
+
+	/**
+	 * Create a new client, negotiating HTTP/2 so that concurrent requests are multiplexed over a single connection.
+	 *
+	 * @return A new {@link HttpClient}.
+	 */
+	public static HttpClient newHttpClient() {
+		return HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_2)
+			.followRedirects(HttpClient.Redirect.ALWAYS)
+			.connectTimeout(CONNECT_TIMEOUT)
+			.build();
+	}
+
+	private static class SharedHolder {
+
+		private static final HttpClient INSTANCE = newHttpClient();
+
+	}
+
+}
@@ -0,0 +1,39 @@
+package dev.caceresenzo.privy.client.impl.io;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Writes of small files that are replaced as a whole, such as the persisted verification key or a cursor checkpoint.
+ */
+@UtilityClass
+public class AtomicFiles {
+
+	/**
+	 * Write a text to a file through a temporary sibling file, which is then moved over the target. <br />
+	 * The move is atomic when the file system supports it, so that a concurrent reader, or a crash, never leaves a partial content.
+	 *
+	 * @param path The path of the file.
+	 * @param content The text to write.
+	 * @param charset The charset to encode the text with.
+	 * @throws IOException If the file cannot be written.
+	 */
+	public static void writeString(Path path, String content, Charset charset) throws IOException {
+		final var absolutePath = path.toAbsolutePath();
+		final var temporaryPath = absolutePath.resolveSibling(absolutePath.getFileName() + ".tmp");
+
+		Files.writeString(temporaryPath, content, charset);
+
+		try {
+			Files.move(temporaryPath, absolutePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException exception) {
+			Files.move(temporaryPath, absolutePath, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+}
@@ -0,0 +1,246 @@
+package dev.caceresenzo.privy.client.impl.key;
+
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Holds the verification key once it has been loaded. <br />
+ * Concurrent loads are collapsed into a single call to the loader, and when a refresh interval is configured, the key is reloaded in the background while the previous one keeps being served. <br />
+ * The last few distinct keys are remembered so that tokens signed before a key rotation can still be verified.
+ */
+public class VerificationKeyHolder implements AutoCloseable {
+
+	public static final int MAXIMUM_KEYS = 3;
+
+	private final Supplier<PublicKey> loader;
+	private final long refreshIntervalNanos;
+	private final long refetchIntervalNanos;
+	private final ScheduledExecutorService scheduler;
+	private final Executor refreshExecutor;
+
+	private final AtomicReference<Loaded> current = new AtomicReference<>();
+	private final AtomicReference<CompletableFuture<PublicKey>> inFlight = new AtomicReference<>();
+	private final AtomicLong lastRefetchNanos;
+
+	public VerificationKeyHolder(Supplier<PublicKey> loader, Duration refreshInterval, Duration refetchInterval) {
+		this(loader, refreshInterval, refetchInterval, null);
+	}
+
+	/**
+	 * @param executor The executor running the background refreshes, <code>null</code> to run them on the thread scheduling them.
+	 */
+	public VerificationKeyHolder(Supplier<PublicKey> loader, Duration refreshInterval, Duration refetchInterval, Executor executor) {
+		this.loader = loader;
+
+		if (refetchInterval == null || refetchInterval.isNegative()) {
+			throw new IllegalArgumentException("refetchInterval must not be null or negative");
+		}
+
+		this.refetchIntervalNanos = refetchInterval.toNanos();
+		this.lastRefetchNanos = new AtomicLong(System.nanoTime() - refetchIntervalNanos);
+
+		if (refreshInterval != null && !refreshInterval.isZero()) {
+			if (refreshInterval.isNegative()) {
+				throw new IllegalArgumentException("refreshInterval must not be negative");
+			}
+
+			this.refreshIntervalNanos = refreshInterval.toNanos();
+			this.scheduler = Executors.newSingleThreadScheduledExecutor((runnable) -> {
+				final var thread = new Thread(runnable, "privy-verification-key-refresh");
+				thread.setDaemon(true);
+
+				return thread;
+			});
+
+			this.refreshExecutor = executor != null ? executor : scheduler;
+
+			this.scheduler.scheduleWithFixedDelay(() -> executeRefresh(this::refresh), refreshIntervalNanos, refreshIntervalNanos, TimeUnit.NANOSECONDS);
+		} else {
+			this.refreshIntervalNanos = 0;
+			this.scheduler = null;
+			this.refreshExecutor = null;
+		}
+	}
+
+	/**
+	 * Get the verification key, loading it if none has been loaded yet. <br />
+	 * Once a key is available, this never blocks: a stale key is returned while a refresh happens in the background.
+	 *
+	 * @return The verification key.
+	 */
+	public PublicKey get() {
+		final var loaded = current.get();
+		if (loaded != null) {
+			if (isStale(loaded) && inFlight.get() == null) {
+				executeRefresh(this::refreshIfStale);
+			}
+
+			return loaded.keys().get(0);
+		}
+
+		try {
+			return refresh().join();
+		} catch (CompletionException exception) {
+			if (exception.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+
+			throw exception;
+		}
+	}
+
+	/**
+	 * Get the verification key only if it has already been loaded.
+	 *
+	 * @return The verification key, or <code>null</code>.
+	 */
+	public PublicKey getIfLoaded() {
+		final var loaded = current.get();
+		if (loaded == null) {
+			return null;
+		}
+
+		return loaded.keys().get(0);
+	}
+
+	/**
+	 * Get all of the known verification keys.
+	 *
+	 * @return The known keys, the most recent first, or an empty list if none has been loaded yet.
+	 */
+	public List<PublicKey> getAll() {
+		final var loaded = current.get();
+		if (loaded == null) {
+			return List.of();
+		}
+
+		return loaded.keys();
+	}
+
+	/**
+	 * Load the verification key, or join the load that is already in progress. <br />
+	 * A failed load keeps the previous key, if any.
+	 *
+	 * @return A future completed with the loaded key.
+	 */
+	public CompletableFuture<PublicKey> refresh() {
+		final var future = new CompletableFuture<PublicKey>();
+
+		final var existing = inFlight.compareAndExchange(null, future);
+		if (existing != null) {
+			return existing;
+		}
+
+		try {
+			final var key = loader.get();
+			set(key);
+
+			inFlight.set(null);
+			future.complete(key);
+		} catch (Throwable throwable) {
+			inFlight.set(null);
+			future.completeExceptionally(throwable);
+		}
+
+		return future;
+	}
+
+	/**
+	 * Load the verification key again, unless it has already been done during the refetch interval. <br />
+	 * This is meant to be used when a signature cannot be verified, in case the key has been rotated.
+	 *
+	 * @return <code>true</code> if a key that was not known before has been loaded.
+	 */
+	public boolean refetch() {
+		final var now = System.nanoTime();
+		final var last = lastRefetchNanos.get();
+
+		if (now - last < refetchIntervalNanos || !lastRefetchNanos.compareAndSet(last, now)) {
+			return false;
+		}
+
+		final var known = getAll();
+
+		try {
+			return !known.contains(refresh().join());
+		} catch (CompletionException __) {
+			return false;
+		}
+	}
+
+	/**
+	 * Make a key the current verification key, the previous ones are kept as a fallback.
+	 *
+	 * @param key The new verification key.
+	 */
+	public void set(PublicKey key) {
+		final var now = System.nanoTime();
+
+		current.updateAndGet((previous) -> {
+			final var keys = new ArrayList<PublicKey>(MAXIMUM_KEYS);
+			keys.add(key);
+
+			if (previous != null) {
+				for (final var previousKey : previous.keys()) {
+					if (keys.size() == MAXIMUM_KEYS) {
+						break;
+					}
+
+					if (!previousKey.equals(key)) {
+						keys.add(previousKey);
+					}
+				}
+			}
+
+			return new Loaded(List.copyOf(keys), now);
+		});
+	}
+
+	@Override
+	public void close() {
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+		}
+	}
+
+	private void executeRefresh(Runnable refresh) {
+		try {
+			refreshExecutor.execute(refresh);
+		} catch (RejectedExecutionException __) {
+			/* the stale key keeps being served until the next attempt */
+		}
+	}
+
+	private void refreshIfStale() {
+		final var loaded = current.get();
+		if (loaded == null || isStale(loaded)) {
+			refresh();
+		}
+	}
+
+	private boolean isStale(Loaded loaded) {
+		if (scheduler == null) {
+			return false;
+		}
+
+		return System.nanoTime() - loaded.loadedAtNanos() > refreshIntervalNanos;
+	}
+
+	private static record Loaded(
+		List<PublicKey> keys,
+		long loadedAtNanos
+	) {}
+
+}
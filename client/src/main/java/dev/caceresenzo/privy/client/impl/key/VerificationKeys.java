@@ -0,0 +1,103 @@
+package dev.caceresenzo.privy.client.impl.key;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyFactory;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+
+import dev.caceresenzo.privy.client.impl.io.AtomicFiles;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class VerificationKeys {
+
+	public static final String PEM_HEADER = "-----BEGIN PUBLIC KEY-----";
+	public static final String PEM_FOOTER = "-----END PUBLIC KEY-----";
+
+	private static final Base64.Encoder PEM_ENCODER = Base64.getMimeEncoder(64, new byte[] { '\n' });
+
+	/**
+	 * Parse a PEM encoded EC public key.
+	 *
+	 * @param pem The PEM text, as returned by the application settings.
+	 * @return The parsed public key.
+	 * @throws IllegalArgumentException If the key cannot be parsed.
+	 */
+	public static PublicKey parse(String pem) {
+		final var publicKeyString = pem
+			.replace(PEM_HEADER, "")
+			.replace(PEM_FOOTER, "")
+			.replaceAll("\\s", "");
+
+		final var publicKeyBytes = Base64.getDecoder().decode(publicKeyString);
+		final var keySpec = new X509EncodedKeySpec(publicKeyBytes);
+
+		try {
+			return KeyFactory.getInstance("EC").generatePublic(keySpec);
+		} catch (NoSuchAlgorithmException | InvalidKeySpecException exception) {
+			throw new IllegalArgumentException("invalid verification key", exception);
+		}
+	}
+
+	/**
+	 * Encode a public key in the PEM format.
+	 *
+	 * @param key The public key to encode.
+	 * @return The PEM text.
+	 */
+	public static String toPem(PublicKey key) {
+		return PEM_HEADER + "\n" + PEM_ENCODER.encodeToString(key.getEncoded()) + "\n" + PEM_FOOTER + "\n";
+	}
+
+	/**
+	 * Read a PEM encoded public key from a file.
+	 *
+	 * @param path The path of the file.
+	 * @return The parsed public key.
+	 * @throws IOException If the file cannot be read.
+	 */
+	public static PublicKey read(Path path) throws IOException {
+		return parse(Files.readString(path, StandardCharsets.US_ASCII));
+	}
+
+	/**
+	 * Read a PEM encoded public key from the classpath.
+	 *
+	 * @param name The name of the resource.
+	 * @return The parsed public key.
+	 * @throws IOException If the resource does not exist or cannot be read.
+	 */
+	public static PublicKey readResource(String name) throws IOException {
+		final var classLoader = Thread.currentThread().getContextClassLoader() != null
+			? Thread.currentThread().getContextClassLoader()
+			: VerificationKeys.class.getClassLoader();
+
+		try (final InputStream inputStream = classLoader.getResourceAsStream(name.startsWith("/") ? name.substring(1) : name)) {
+			if (inputStream == null) {
+				throw new IOException("resource not found: %s".formatted(name));
+			}
+
+			return parse(new String(inputStream.readAllBytes(), StandardCharsets.US_ASCII));
+		}
+	}
+
+	/**
+	 * Write a public key to a file in the PEM format. <br />
+	 * The file is replaced atomically, so that a concurrent reader never sees a partial key.
+	 *
+	 * @param path The path of the file.
+	 * @param key The public key to write.
+	 * @throws IOException If the file cannot be written.
+	 */
+	public static void write(Path path, PublicKey key) throws IOException {
+		AtomicFiles.writeString(path, toPem(key), StandardCharsets.US_ASCII);
+	}
+
+}
@@ -0,0 +1,78 @@
+package dev.caceresenzo.privy.client.impl.pagination;
+
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterate over whole pages, each one fully read before being given, so that its cursor is known.
+ *
+ * @param <T> The type of the elements.
+ */
+public class BufferedPageSpliterator<T> implements Spliterator<Page<T>> {
+
+	private final Function<String, PageReader<T>> pageGetter;
+
+	private String nextCursor;
+	private boolean started;
+	private boolean done;
+
+	/**
+	 * Start iterating from a cursor.
+	 *
+	 * @param startCursor The cursor of the first page, <code>null</code> to start from the very first page.
+	 * @param pageGetter The function fetching a page from its cursor, given <code>null</code> for the very first page.
+	 */
+	public BufferedPageSpliterator(String startCursor, Function<String, PageReader<T>> pageGetter) {
+		this.pageGetter = Objects.requireNonNull(pageGetter);
+		this.nextCursor = startCursor;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super Page<T>> action) {
+		if (done) {
+			return false;
+		}
+
+		final var data = new ArrayList<T>();
+		try (final var reader = pageGetter.apply(nextCursor)) {
+			reader.forEachRemaining(data::add);
+			nextCursor = reader.nextCursor();
+		}
+
+		if (started && data.isEmpty()) {
+			done = true;
+			return false;
+		}
+
+		started = true;
+		done = nextCursor == null;
+
+		action.accept(new Page<>(data, nextCursor));
+		return true;
+	}
+
+	@Override
+	public Spliterator<Page<T>> trySplit() {
+		return null;
+	}
+
+	@Override
+	public long estimateSize() {
+		return Long.MAX_VALUE;
+	}
+
+	@Override
+	public int characteristics() {
+		return ORDERED | NONNULL;
+	}
+
+	public Stream<Page<T>> asStream() {
+		return StreamSupport.stream(this, false);
+	}
+
+}
@@ -0,0 +1,52 @@
+package dev.caceresenzo.privy.client.impl.pagination;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+import dev.caceresenzo.privy.client.CursorCheckpoint;
+import dev.caceresenzo.privy.client.impl.io.AtomicFiles;
+
+public record FileCursorCheckpoint(
+	Path file
+) implements CursorCheckpoint {
+
+	public FileCursorCheckpoint {
+		Objects.requireNonNull(file, "file must be specified");
+	}
+
+	@Override
+	public String load() {
+		if (!Files.exists(file)) {
+			return null;
+		}
+
+		try {
+			final var cursor = Files.readString(file, StandardCharsets.UTF_8).strip();
+
+			return cursor.isEmpty()
+				? null
+				: cursor;
+		} catch (IOException exception) {
+			throw new UncheckedIOException(exception);
+		}
+	}
+
+	@Override
+	public void save(String nextCursor) {
+		try {
+			if (nextCursor == null) {
+				Files.deleteIfExists(file);
+				return;
+			}
+
+			AtomicFiles.writeString(file, nextCursor, StandardCharsets.UTF_8);
+		} catch (IOException exception) {
+			throw new UncheckedIOException(exception);
+		}
+	}
+
+}
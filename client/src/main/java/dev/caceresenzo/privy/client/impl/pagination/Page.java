@@ -13,4 +13,30 @@ public record Page<T>(
 		return data == null || data.isEmpty();
 	}
 
-}
\ No newline at end of file
+	public PageReader<T> reader() {
+		final var iterator = data != null ? data.iterator() : List.<T>of().iterator();
+
+		return new PageReader<T>() {
+
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public T next() {
+				return iterator.next();
+			}
+
+			@Override
+			public String nextCursor() {
+				return nextCursor;
+			}
+
+			@Override
+			public void close() {}
+
+		};
+	}
+
+}
@@ -0,0 +1,134 @@
+package dev.caceresenzo.privy.client.impl.pagination;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Fetch the next pages in the background, while the current one is consumed. <br />
+ * The pages are fetched one after the other, as each one needs the cursor of the previous one, and are fully read so that their cursor is known.
+ *
+ * @param <T> The type of the elements.
+ */
+public class PagePrefetcher<T> implements AutoCloseable {
+
+	private final Function<String, PageReader<T>> nextPageGetter;
+	private final Executor executor;
+	private final int depth;
+
+	private final ArrayDeque<CompletableFuture<Page<T>>> pending = new ArrayDeque<>();
+	private CompletableFuture<Page<T>> last;
+
+	private volatile boolean closed;
+	private Thread fetchingThread;
+
+	/**
+	 * Start fetching the pages following a cursor.
+	 *
+	 * @param nextCursor The cursor of the first page to fetch, <code>null</code> if there is none.
+	 * @param nextPageGetter The function fetching a page from its cursor.
+	 * @param executor The executor running the fetches.
+	 * @param depth The maximum number of pages fetched ahead.
+	 */
+	public PagePrefetcher(String nextCursor, Function<String, PageReader<T>> nextPageGetter, Executor executor, int depth) {
+		if (depth < 1) {
+			throw new IllegalArgumentException("depth must be positive");
+		}
+
+		this.nextPageGetter = nextPageGetter;
+		this.executor = executor;
+		this.depth = depth;
+
+		this.last = CompletableFuture.completedFuture(new Page<>(null, nextCursor));
+		fill();
+	}
+
+	/**
+	 * Take the next page, waiting for it to be fetched if needed.
+	 *
+	 * @return The next page, or <code>null</code> if there are no more pages.
+	 */
+	public PageReader<T> take() {
+		if (closed) {
+			return null;
+		}
+
+		final var future = pending.poll();
+
+		final Page<T> page;
+		try {
+			page = future.join();
+		} catch (CompletionException exception) {
+			close();
+
+			if (exception.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+
+			throw exception;
+		}
+
+		if (page == null) {
+			close();
+			return null;
+		}
+
+		fill();
+		return page.reader();
+	}
+
+	/**
+	 * Stop fetching, interrupting the fetch in progress.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+
+		pending.forEach((future) -> future.cancel(false));
+		pending.clear();
+
+		synchronized (this) {
+			if (fetchingThread != null) {
+				fetchingThread.interrupt();
+			}
+		}
+	}
+
+	private void fill() {
+		while (!closed && pending.size() < depth) {
+			last = last.thenApplyAsync((page) -> page != null && page.nextCursor() != null ? fetch(page.nextCursor()) : null, executor);
+			pending.add(last);
+		}
+	}
+
+	private Page<T> fetch(String cursor) {
+		synchronized (this) {
+			if (closed) {
+				throw new CancellationException();
+			}
+
+			fetchingThread = Thread.currentThread();
+		}
+
+		try (final var reader = nextPageGetter.apply(cursor)) {
+			final var data = new ArrayList<T>();
+			reader.forEachRemaining(data::add);
+
+			return new Page<>(data, reader.nextCursor());
+		} finally {
+			synchronized (this) {
+				fetchingThread = null;
+
+				if (closed) {
+					/* do not leak the interruption to the next task of the thread */
+					Thread.interrupted();
+				}
+			}
+		}
+	}
+
+}
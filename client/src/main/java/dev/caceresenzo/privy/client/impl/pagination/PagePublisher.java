@@ -0,0 +1,173 @@
+package dev.caceresenzo.privy.client.impl.pagination;
+
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Publish the elements of the pages, fetching a page only when the subscriber has demand for its elements. <br />
+ * Each page is fully read once fetched, so that no response is held open while waiting for more demand. <br />
+ * The pages are fetched and the elements are signaled on the executor, never on the thread calling {@link Flow.Subscription#request(long) request}.
+ *
+ * @param <T> The type of the elements.
+ */
+public class PagePublisher<T> implements Flow.Publisher<T> {
+
+	private final Supplier<PageReader<T>> firstPageGetter;
+	private final Function<String, PageReader<T>> nextPageGetter;
+	private final Executor executor;
+
+	public PagePublisher(Supplier<PageReader<T>> firstPageGetter, Function<String, PageReader<T>> nextPageGetter, Executor executor) {
+		this.firstPageGetter = Objects.requireNonNull(firstPageGetter);
+		this.nextPageGetter = Objects.requireNonNull(nextPageGetter);
+		this.executor = Objects.requireNonNull(executor);
+	}
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super T> subscriber) {
+		Objects.requireNonNull(subscriber);
+
+		final var subscription = new PageSubscription(subscriber);
+		subscriber.onSubscribe(subscription);
+	}
+
+	private class PageSubscription implements Flow.Subscription {
+
+		private final Flow.Subscriber<? super T> subscriber;
+
+		private final AtomicLong demand = new AtomicLong();
+		private final AtomicInteger pendingDrains = new AtomicInteger();
+		private volatile boolean cancelled;
+		private volatile IllegalArgumentException invalidRequest;
+
+		/* only accessed by the draining thread */
+		private boolean done;
+		private PageReader<T> currentPage;
+		private String nextCursor;
+
+		PageSubscription(Flow.Subscriber<? super T> subscriber) {
+			this.subscriber = subscriber;
+		}
+
+		@Override
+		public void request(long n) {
+			if (n <= 0) {
+				invalidRequest = new IllegalArgumentException("requested %s elements, must be positive".formatted(n));
+			} else {
+				demand.getAndUpdate((current) -> current + n < 0 ? Long.MAX_VALUE : current + n);
+			}
+
+			drain();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+			drain();
+		}
+
+		private void drain() {
+			if (pendingDrains.getAndIncrement() == 0) {
+				executor.execute(this::run);
+			}
+		}
+
+		private void run() {
+			var missed = 1;
+
+			do {
+				try {
+					emit();
+				} catch (RuntimeException exception) {
+					if (!done) {
+						finish();
+						subscriber.onError(exception);
+					}
+				}
+
+				missed = pendingDrains.addAndGet(-missed);
+			} while (missed != 0);
+		}
+
+		private void emit() {
+			while (!done) {
+				if (cancelled) {
+					finish();
+					return;
+				}
+
+				if (invalidRequest != null) {
+					finish();
+					subscriber.onError(invalidRequest);
+					return;
+				}
+
+				/* the pages are fully read, so the end is known without waiting for more demand */
+				if (currentPage != null && !currentPage.hasNext()) {
+					nextCursor = currentPage.nextCursor();
+					currentPage = null;
+
+					if (nextCursor == null) {
+						finish();
+						subscriber.onComplete();
+						return;
+					}
+				}
+
+				if (demand.get() == 0) {
+					return;
+				}
+
+				if (currentPage == null) {
+					final var firstPage = nextCursor == null;
+
+					currentPage = read(firstPage
+						? firstPageGetter.get()
+						: nextPageGetter.apply(nextCursor));
+
+					if (!firstPage && !currentPage.hasNext()) {
+						finish();
+						subscriber.onComplete();
+						return;
+					}
+
+					continue;
+				}
+
+				final var element = currentPage.next();
+
+				if (demand.get() != Long.MAX_VALUE) {
+					demand.decrementAndGet();
+				}
+
+				subscriber.onNext(element);
+			}
+		}
+
+		/** Fully read a page, so that its response is not held open while there is no demand. */
+		private PageReader<T> read(PageReader<T> page) {
+			try (page) {
+				final var data = new ArrayList<T>();
+				page.forEachRemaining(data::add);
+
+				return new Page<>(data, page.nextCursor()).reader();
+			}
+		}
+
+		private void finish() {
+			done = true;
+
+			if (currentPage != null) {
+				currentPage.close();
+				currentPage = null;
+			}
+		}
+
+	}
+
+}
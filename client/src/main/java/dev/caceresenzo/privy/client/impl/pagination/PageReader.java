@@ -0,0 +1,26 @@
+package dev.caceresenzo.privy.client.impl.pagination;
+
+import java.util.Iterator;
+
+/**
+ * The elements of a page, which can only be read once, followed by the cursor of the next page.
+ *
+ * @param <T> The type of the elements.
+ */
+public interface PageReader<T> extends Iterator<T>, AutoCloseable {
+
+	/**
+	 * Get the cursor of the next page. <br />
+	 * The cursor may only be known once all the elements have been read, the unread elements are skipped.
+	 *
+	 * @return The cursor, or <code>null</code> if this is the last page.
+	 */
+	String nextCursor();
+
+	/**
+	 * Release the response the page is read from, the unread elements are lost.
+	 */
+	@Override
+	void close();
+
+}
@@ -1,8 +1,12 @@
 package dev.caceresenzo.privy.client.impl.pagination;
 
-import java.util.Iterator;
+import java.util.ArrayList;
 import java.util.Objects;
 import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -11,43 +15,100 @@ import java.util.stream.StreamSupport;
 import lombok.Data;
 
 @Data
-public class PageSpliterator<T> implements Spliterator<T> {
+public class PageSpliterator<T> implements Spliterator<T>, AutoCloseable {
 
-	private final Function<String, Page<T>> nextPageGetter;
+	/** The maximum number of split pages not yet fully processed, one for each thread of a parallel stream. */
+	public static final int MAX_SPLIT_PAGES = ForkJoinPool.getCommonPoolParallelism() + 1;
 
-	private Iterator<T> currentIterator;
-	private String nextCursor;
+	private final Function<String, PageReader<T>> nextPageGetter;
 
-	public PageSpliterator(Page<T> firstPage, Function<String, Page<T>> nextPageGetter) {
+	private final Semaphore splitPermits = new Semaphore(MAX_SPLIT_PAGES);
+
+	private final PagePrefetcher<T> prefetcher;
+
+	private PageReader<T> currentPage;
+
+	public PageSpliterator(PageReader<T> firstPage, Function<String, PageReader<T>> nextPageGetter) {
+		this.nextPageGetter = Objects.requireNonNull(nextPageGetter);
+		this.prefetcher = null;
+		this.currentPage = firstPage;
+	}
+
+	/**
+	 * Create a spliterator fetching the next pages in the background.
+	 *
+	 * @param firstPage The first page, fully read so that the next one can be fetched right away.
+	 * @param nextPageGetter The function fetching a page from its cursor.
+	 * @param executor The executor running the fetches.
+	 * @param prefetchDepth The maximum number of pages fetched ahead, <code>0</code> to fetch them only when needed.
+	 */
+	public PageSpliterator(PageReader<T> firstPage, Function<String, PageReader<T>> nextPageGetter, Executor executor, int prefetchDepth) {
 		this.nextPageGetter = Objects.requireNonNull(nextPageGetter);
 
-		setPage(firstPage);
+		if (prefetchDepth == 0) {
+			this.prefetcher = null;
+			this.currentPage = firstPage;
+		} else {
+			final var data = new ArrayList<T>();
+			firstPage.forEachRemaining(data::add);
+			final var nextCursor = firstPage.nextCursor();
+			firstPage.close();
+
+			this.currentPage = new Page<>(data, nextCursor).reader();
+			this.prefetcher = new PagePrefetcher<>(nextCursor, nextPageGetter, Objects.requireNonNull(executor), prefetchDepth);
+		}
 	}
 
 	@Override
 	public boolean tryAdvance(Consumer<? super T> action) {
-		if (currentIterator == null) {
+		if (!ensureCurrentPageHasNext()) {
+			return false;
+		}
+
+		action.accept(currentPage.next());
+		return true;
+	}
+
+	/**
+	 * Hand off the rest of the current page, which has already been fetched, fetching the next one if it has been fully read. <br />
+	 * The pages are still fetched one after the other, only their elements are processed in parallel. <br />
+	 * No more than {@link #MAX_SPLIT_PAGES} split pages are held at once, the remaining ones are then read by the caller without splitting, so that a parallel stream does not buffer the whole user base.
+	 */
+	@Override
+	public Spliterator<T> trySplit() {
+		if (!ensureCurrentPageHasNext() || !splitPermits.tryAcquire()) {
+			return null;
+		}
+
+		final var batch = new ArrayList<T>();
+		currentPage.forEachRemaining(batch::add);
+
+		return new SplitPage<>(Spliterators.spliterator(batch, characteristics()), splitPermits);
+	}
+
+	private boolean ensureCurrentPageHasNext() {
+		if (currentPage == null) {
 			return false;
 		}
 
-		if (!currentIterator.hasNext()) {
-			final var nextPage = nextPageGetter.apply(nextCursor);
-			if (nextPage.isEmpty()) {
+		if (!currentPage.hasNext()) {
+			final var nextPage = nextPage();
+			if (nextPage == null || !nextPage.hasNext()) {
+				close();
+
+				if (nextPage != null) {
+					nextPage.close();
+				}
+
 				return false;
 			}
 
-			setPage(nextPage);
+			currentPage = nextPage;
 		}
 
-		action.accept(currentIterator.next());
 		return true;
 	}
 
-	@Override
-	public Spliterator<T> trySplit() {
-		return null;
-	}
-
 	@Override
 	public long estimateSize() {
 		return Long.MAX_VALUE;
@@ -58,13 +119,97 @@ public class PageSpliterator<T> implements Spliterator<T> {
 		return ORDERED | NONNULL;
 	}
 
-	public void setPage(Page<T> page) {
-		this.currentIterator = page.data().iterator();
-		this.nextCursor = page.nextCursor();
+	@Override
+	public void close() {
+		if (currentPage != null) {
+			currentPage.close();
+			currentPage = null;
+		}
+
+		if (prefetcher != null) {
+			prefetcher.close();
+		}
+	}
+
+	private PageReader<T> nextPage() {
+		if (prefetcher != null) {
+			return prefetcher.take();
+		}
+
+		final var nextCursor = currentPage.nextCursor();
+		currentPage.close();
+
+		if (nextCursor == null) {
+			return null;
+		}
+
+		return nextPageGetter.apply(nextCursor);
 	}
 
 	public Stream<T> asStream() {
-		return StreamSupport.stream(this, false);
+		return StreamSupport.stream(this, false).onClose(this::close);
+	}
+
+	/**
+	 * A page handed off by {@link PageSpliterator#trySplit()}, giving back its permit once fully processed.
+	 */
+	private static class SplitPage<T> implements Spliterator<T> {
+
+		private final Spliterator<T> delegate;
+		private Semaphore permits;
+
+		SplitPage(Spliterator<T> delegate, Semaphore permits) {
+			this.delegate = delegate;
+			this.permits = permits;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+			boolean advanced = false;
+
+			try {
+				advanced = delegate.tryAdvance(action);
+			} finally {
+				if (!advanced) {
+					release();
+				}
+			}
+
+			return advanced;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super T> action) {
+			try {
+				delegate.forEachRemaining(action);
+			} finally {
+				release();
+			}
+		}
+
+		/** Not split any further, as the permit is given back by a single holder. */
+		@Override
+		public Spliterator<T> trySplit() {
+			return null;
+		}
+
+		@Override
+		public long estimateSize() {
+			return delegate.estimateSize();
+		}
+
+		@Override
+		public int characteristics() {
+			return delegate.characteristics();
+		}
+
+		private void release() {
+			if (permits != null) {
+				permits.release();
+				permits = null;
+			}
+		}
+
 	}
 
-}
\ No newline at end of file
+}
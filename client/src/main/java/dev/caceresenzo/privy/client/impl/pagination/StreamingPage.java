@@ -0,0 +1,162 @@
+package dev.caceresenzo.privy.client.impl.pagination;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.NoSuchElementException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * A page read from the response while its elements are consumed, so that only one element is held in memory at a time. <br />
+ * The response is released once the page has been fully read, or when it is closed.
+ *
+ * @param <T> The type of the elements.
+ */
+public class StreamingPage<T> implements PageReader<T> {
+
+	public static final String DATA_FIELD = "data";
+	public static final String NEXT_CURSOR_FIELD = "next_cursor";
+
+	private final JsonParser parser;
+	private final ObjectReader elementReader;
+	private final Closeable body;
+
+	private boolean inData;
+	private boolean closed;
+	private boolean hasNext;
+	private T next;
+	private String nextCursor;
+
+	/**
+	 * Start reading a page, up to its first element.
+	 *
+	 * @throws IOException If the response is not a page.
+	 */
+	public StreamingPage(JsonParser parser, ObjectReader elementReader, Closeable body) throws IOException {
+		this.parser = parser;
+		this.elementReader = elementReader;
+		this.body = body;
+
+		try {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new IOException("expected a page object");
+			}
+
+			readFields();
+		} catch (IOException | RuntimeException exception) {
+			close();
+			throw exception;
+		}
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (hasNext) {
+			return true;
+		}
+
+		if (!inData) {
+			return false;
+		}
+
+		try {
+			if (parser.nextToken() == JsonToken.END_ARRAY) {
+				inData = false;
+				readFields();
+
+				return false;
+			}
+
+			next = elementReader.readValue(parser);
+			hasNext = true;
+
+			return true;
+		} catch (IOException exception) {
+			close();
+			throw new UncheckedIOException(exception);
+		}
+	}
+
+	@Override
+	public T next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		final var element = next;
+		hasNext = false;
+		next = null;
+
+		return element;
+	}
+
+	@Override
+	public String nextCursor() {
+		hasNext = false;
+		next = null;
+
+		try {
+			while (inData) {
+				if (parser.nextToken() == JsonToken.END_ARRAY) {
+					inData = false;
+					readFields();
+				} else {
+					parser.skipChildren();
+				}
+			}
+		} catch (IOException exception) {
+			close();
+			throw new UncheckedIOException(exception);
+		}
+
+		return nextCursor;
+	}
+
+	@Override
+	public void close() {
+		if (closed) {
+			return;
+		}
+
+		closed = true;
+		inData = false;
+
+		try (body) {
+			parser.close();
+		} catch (IOException __) {
+			/* nothing more can be read anyway */
+		}
+	}
+
+	/**
+	 * Read the fields of the page, until the elements or the end of the page.
+	 */
+	private void readFields() throws IOException {
+		JsonToken token;
+		while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+			final var name = parser.currentName();
+			token = parser.nextToken();
+
+			if (DATA_FIELD.equals(name) && token == JsonToken.START_ARRAY) {
+				inData = true;
+				return;
+			}
+
+			if (NEXT_CURSOR_FIELD.equals(name)) {
+				nextCursor = token == JsonToken.VALUE_NULL ? null : parser.getText();
+			} else {
+				parser.skipChildren();
+			}
+		}
+
+		if (token != JsonToken.END_OBJECT) {
+			throw new IOException("unexpected token in page: " + token);
+		}
+
+		close();
+	}
+
+}
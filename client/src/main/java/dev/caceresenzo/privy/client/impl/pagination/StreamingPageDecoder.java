@@ -0,0 +1,52 @@
+package dev.caceresenzo.privy.client.impl.pagination;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import feign.Response;
+import feign.Util;
+import feign.codec.Decoder;
+
+/**
+ * Decode the {@link PageReader pages} as {@link StreamingPage streaming pages}, and the other types with a delegate. <br />
+ * Requires the Feign client to not close the responses after decoding, this decoder closes them instead.
+ */
+public class StreamingPageDecoder implements Decoder {
+
+	private final ObjectMapper mapper;
+	private final Decoder delegate;
+	private final ConcurrentHashMap<Type, ObjectReader> elementReaders = new ConcurrentHashMap<>();
+
+	public StreamingPageDecoder(ObjectMapper mapper, Decoder delegate) {
+		this.mapper = mapper;
+		this.delegate = delegate;
+	}
+
+	@Override
+	public Object decode(Response response, Type type) throws IOException {
+		if (!(type instanceof ParameterizedType parameterizedType) || parameterizedType.getRawType() != PageReader.class) {
+			try {
+				return delegate.decode(response, type);
+			} finally {
+				Util.ensureClosed(response.body());
+			}
+		}
+
+		final var body = response.body();
+		if (body == null) {
+			return new Page<>(List.of(), null).reader();
+		}
+
+		final var elementType = parameterizedType.getActualTypeArguments()[0];
+		final var elementReader = elementReaders.computeIfAbsent(elementType, (key) -> mapper.readerFor(mapper.constructType(key)));
+
+		return new StreamingPage<>(mapper.createParser(body.asInputStream()), elementReader, body);
+	}
+
+}
@@ -0,0 +1,19 @@
+package dev.caceresenzo.privy.client.impl.ratelimit;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import dev.caceresenzo.privy.client.EndpointGroup;
+
+/**
+ * Declares the {@link EndpointGroup group} of a request, the requests without it are {@link EndpointGroup#LOOKUP lookups}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Endpoint {
+
+	EndpointGroup value();
+
+}
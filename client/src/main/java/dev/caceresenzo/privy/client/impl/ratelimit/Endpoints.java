@@ -0,0 +1,30 @@
+package dev.caceresenzo.privy.client.impl.ratelimit;
+
+import dev.caceresenzo.privy.client.EndpointGroup;
+import feign.Request;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class Endpoints {
+
+	/**
+	 * Get the group of the endpoint called by a request, from the {@link Endpoint} annotation of its method.
+	 *
+	 * @param request The request to get the group of.
+	 * @return The group, {@link EndpointGroup#LOOKUP} if none is declared.
+	 */
+	public static EndpointGroup getGroup(Request request) {
+		final var template = request.requestTemplate();
+		if (template == null || template.methodMetadata() == null || template.methodMetadata().method() == null) {
+			return EndpointGroup.LOOKUP;
+		}
+
+		final var endpoint = template.methodMetadata().method().getAnnotation(Endpoint.class);
+		if (endpoint == null) {
+			return EndpointGroup.LOOKUP;
+		}
+
+		return endpoint.value();
+	}
+
+}
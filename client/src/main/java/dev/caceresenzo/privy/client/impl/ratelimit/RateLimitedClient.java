@@ -0,0 +1,148 @@
+package dev.caceresenzo.privy.client.impl.ratelimit;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import dev.caceresenzo.privy.client.EndpointGroup;
+import dev.caceresenzo.privy.client.PrivyClientException;
+import dev.caceresenzo.privy.client.RateLimit;
+import dev.caceresenzo.privy.client.impl.timeout.Deadline;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+/**
+ * Limit the rate of the requests sent by a delegate {@link Client}, with a {@link TokenBucket} per {@link EndpointGroup group of endpoints}. <br />
+ * The buckets slow down to follow the <code>RateLimit-*</code>, <code>X-RateLimit-*</code> and <code>Retry-After</code> headers of the responses.
+ */
+public class RateLimitedClient implements Client {
+
+	public static final String[] REMAINING_HEADERS = { "RateLimit-Remaining", "X-RateLimit-Remaining" };
+	public static final String[] RESET_HEADERS = { "RateLimit-Reset", "X-RateLimit-Reset" };
+	public static final String RETRY_AFTER_HEADER = "Retry-After";
+
+	/** Reset values above are epoch seconds, below are delta seconds. */
+	private static final long EPOCH_SECONDS_THRESHOLD = 1_000_000_000L;
+
+	private final Client delegate;
+	private final Map<EndpointGroup, TokenBucket> buckets;
+	private final Map<EndpointGroup, Duration> maxWaits;
+	private final LongSupplier epochSecondsClock;
+
+	public RateLimitedClient(Client delegate, Map<EndpointGroup, RateLimit> rateLimits) {
+		this.delegate = delegate;
+		this.buckets = new EnumMap<>(EndpointGroup.class);
+		this.maxWaits = new EnumMap<>(EndpointGroup.class);
+		this.epochSecondsClock = () -> System.currentTimeMillis() / 1000;
+
+		rateLimits.forEach((group, rateLimit) -> {
+			buckets.put(group, new TokenBucket(rateLimit.permitsPerSecond(), rateLimit.burst()));
+			maxWaits.put(group, rateLimit.maxWait());
+		});
+	}
+
+	@Override
+	public Response execute(Request request, Request.Options options) throws IOException {
+		final var group = Endpoints.getGroup(request);
+
+		final var bucket = buckets.get(group);
+		if (bucket == null) {
+			return delegate.execute(request, options);
+		}
+
+		acquire(group, bucket);
+
+		final var response = delegate.execute(request, options);
+		adapt(bucket, response);
+
+		return response;
+	}
+
+	/**
+	 * Get the bucket of a group.
+	 *
+	 * @param group The group of endpoints.
+	 * @return The bucket, or <code>null</code> if the group is not limited.
+	 */
+	public TokenBucket getBucket(EndpointGroup group) {
+		return buckets.get(group);
+	}
+
+	private void acquire(EndpointGroup group, TokenBucket bucket) {
+		var maxWait = maxWaits.get(group);
+
+		final var deadline = Deadline.current();
+		if (deadline != null) {
+			final var remaining = Duration.ofNanos(Math.max(0, deadline.remainingNanos()));
+
+			if (maxWait == null || remaining.compareTo(maxWait) < 0) {
+				maxWait = remaining;
+			}
+		}
+
+		try {
+			if (maxWait == null) {
+				bucket.acquire();
+			} else if (maxWait.isZero() ? !bucket.tryAcquire() : !bucket.tryAcquire(maxWait)) {
+				throw new PrivyClientException.RateLimited("client-side rate limit of %s endpoints exceeded".formatted(group));
+			}
+		} catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+
+			throw new PrivyClientException.RateLimited("interrupted while waiting for the rate limit", exception);
+		}
+	}
+
+	private void adapt(TokenBucket bucket, Response response) {
+		final var headers = response.headers();
+
+		final var retryAfter = parseLong(getHeader(headers, RETRY_AFTER_HEADER));
+		if (retryAfter != null && retryAfter > 0) {
+			bucket.pause(TimeUnit.SECONDS.toNanos(retryAfter));
+			return;
+		}
+
+		final var remaining = parseLong(getHeader(headers, REMAINING_HEADERS));
+		final var reset = parseLong(getHeader(headers, RESET_HEADERS));
+		if (remaining == null || reset == null) {
+			return;
+		}
+
+		var resetSeconds = reset;
+		if (resetSeconds >= EPOCH_SECONDS_THRESHOLD) {
+			resetSeconds -= epochSecondsClock.getAsLong();
+		}
+
+		bucket.adapt(remaining, TimeUnit.SECONDS.toNanos(Math.max(0, resetSeconds)));
+	}
+
+	private static String getHeader(Map<String, Collection<String>> headers, String... names) {
+		for (final var name : names) {
+			final var values = headers.get(name);
+
+			if (values != null && !values.isEmpty()) {
+				return values.iterator().next();
+			}
+		}
+
+		return null;
+	}
+
+	private static Long parseLong(String value) {
+		if (value == null) {
+			return null;
+		}
+
+		try {
+			return Long.parseLong(value.trim());
+		} catch (NumberFormatException exception) {
+			return null;
+		}
+	}
+
+}
@@ -0,0 +1,138 @@
+package dev.caceresenzo.privy.client.impl.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * A lock-free token bucket, implemented as a generic cell rate algorithm: a single timestamp tracks when the bucket will be full again. <br />
+ * The rate can be slowed down temporarily, to follow the rate limit advertised by the server.
+ */
+public class TokenBucket {
+
+	private final long baseIntervalNanos;
+	private final long burst;
+	private final LongSupplier nanoClock;
+
+	private final AtomicLong intervalNanos;
+	private final AtomicLong theoreticalArrivalNanos;
+
+	public TokenBucket(double permitsPerSecond, int burst) {
+		this(permitsPerSecond, burst, System::nanoTime);
+	}
+
+	public TokenBucket(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+		this.baseIntervalNanos = Math.max(1, Math.round(TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+		this.burst = burst;
+		this.nanoClock = nanoClock;
+
+		this.intervalNanos = new AtomicLong(baseIntervalNanos);
+		this.theoreticalArrivalNanos = new AtomicLong(nanoClock.getAsLong());
+	}
+
+	/**
+	 * Take a permit only if one is available right now.
+	 *
+	 * @return <code>true</code> if a permit has been taken.
+	 */
+	public boolean tryAcquire() {
+		return reserve(0) == 0;
+	}
+
+	/**
+	 * Take a permit, waiting for it if needed, unless it would take longer than a timeout.
+	 *
+	 * @param timeout The maximum duration to wait for.
+	 * @return <code>true</code> if a permit has been taken.
+	 * @throws InterruptedException If interrupted while waiting, the permit is lost.
+	 */
+	public boolean tryAcquire(Duration timeout) throws InterruptedException {
+		final var waitNanos = reserve(timeout.toNanos());
+		if (waitNanos < 0) {
+			return false;
+		}
+
+		TimeUnit.NANOSECONDS.sleep(waitNanos);
+		return true;
+	}
+
+	/**
+	 * Take a permit, waiting as long as needed.
+	 *
+	 * @throws InterruptedException If interrupted while waiting, the permit is lost.
+	 */
+	public void acquire() throws InterruptedException {
+		TimeUnit.NANOSECONDS.sleep(reserve(Long.MAX_VALUE));
+	}
+
+	/**
+	 * Reserve the next permit.
+	 *
+	 * @param maxWaitNanos The maximum time the permit can be in the future.
+	 * @return How long to wait before using the permit, or <code>-1</code> if it is later than allowed and nothing has been reserved.
+	 */
+	long reserve(long maxWaitNanos) {
+		while (true) {
+			final var now = nanoClock.getAsLong();
+			final var theoreticalArrival = theoreticalArrivalNanos.get();
+			final var interval = intervalNanos.get();
+
+			final var waitNanos = Math.max(0, theoreticalArrival - tolerance(interval) - now);
+			if (waitNanos > maxWaitNanos) {
+				return -1;
+			}
+
+			final var next = Math.max(theoreticalArrival, now) + interval;
+			if (theoreticalArrivalNanos.compareAndSet(theoreticalArrival, next)) {
+				return waitNanos;
+			}
+		}
+	}
+
+	/**
+	 * Follow the rate limit advertised by the server, by spreading the remaining requests until the reset. <br />
+	 * The rate is never raised above the configured one.
+	 *
+	 * @param remaining The number of requests remaining before the reset.
+	 * @param resetNanos The time until the reset.
+	 */
+	public void adapt(long remaining, long resetNanos) {
+		if (resetNanos <= 0) {
+			intervalNanos.set(baseIntervalNanos);
+			return;
+		}
+
+		if (remaining <= 0) {
+			pause(resetNanos);
+			return;
+		}
+
+		intervalNanos.set(Math.max(baseIntervalNanos, resetNanos / remaining));
+	}
+
+	/**
+	 * Give no permit until a delay has elapsed.
+	 *
+	 * @param delayNanos The delay to wait for.
+	 */
+	public void pause(long delayNanos) {
+		final var until = nanoClock.getAsLong() + delayNanos;
+
+		theoreticalArrivalNanos.accumulateAndGet(until + tolerance(intervalNanos.get()), Math::max);
+	}
+
+	/**
+	 * Get the current interval between two permits.
+	 *
+	 * @return The interval, which may be longer than configured when following the server.
+	 */
+	public Duration getInterval() {
+		return Duration.ofNanos(intervalNanos.get());
+	}
+
+	private long tolerance(long interval) {
+		return (burst - 1) * interval;
+	}
+
+}
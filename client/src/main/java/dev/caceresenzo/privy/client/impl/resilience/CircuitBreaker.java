@@ -0,0 +1,158 @@
+package dev.caceresenzo.privy.client.impl.resilience;
+
+import java.util.function.LongSupplier;
+
+import dev.caceresenzo.privy.client.CircuitBreakerPolicy;
+import dev.caceresenzo.privy.client.CircuitBreakerState;
+
+/**
+ * A count-based circuit breaker, recording the outcomes of the last requests in a ring.
+ *
+ * @see CircuitBreakerPolicy
+ */
+public class CircuitBreaker {
+
+	private static final byte FAILED = 1;
+	private static final byte SLOW = 2;
+
+	private final CircuitBreakerPolicy policy;
+	private final LongSupplier nanoClock;
+	private final long slowCallNanos;
+	private final long openNanos;
+
+	private final byte[] outcomes;
+	private int position;
+	private int recorded;
+	private int failures;
+	private int slowCalls;
+
+	private CircuitBreakerState state = CircuitBreakerState.CLOSED;
+	private long openedAt;
+	private int halfOpenPermits;
+
+	public CircuitBreaker(CircuitBreakerPolicy policy) {
+		this(policy, System::nanoTime);
+	}
+
+	public CircuitBreaker(CircuitBreakerPolicy policy, LongSupplier nanoClock) {
+		this.policy = policy;
+		this.nanoClock = nanoClock;
+		this.slowCallNanos = policy.slowCallDuration().toNanos();
+		this.openNanos = policy.openDuration().toNanos();
+
+		this.outcomes = new byte[policy.windowSize()];
+	}
+
+	/**
+	 * Ask whether a request can be sent. <br />
+	 * A permitted request must then be {@link #record(boolean, long) recorded}, or {@link #releasePermission() released}.
+	 *
+	 * @return <code>true</code> if the request can be sent.
+	 */
+	public synchronized boolean tryAcquirePermission() {
+		if (state == CircuitBreakerState.OPEN) {
+			if (nanoClock.getAsLong() - openedAt < openNanos) {
+				return false;
+			}
+
+			transition(CircuitBreakerState.HALF_OPEN);
+		}
+
+		if (state == CircuitBreakerState.HALF_OPEN) {
+			if (halfOpenPermits == 0) {
+				return false;
+			}
+
+			--halfOpenPermits;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Give back the permission of a request which has not been sent, or whose outcome does not tell anything about the API.
+	 */
+	public synchronized void releasePermission() {
+		if (state == CircuitBreakerState.HALF_OPEN && halfOpenPermits < policy.halfOpenCalls()) {
+			++halfOpenPermits;
+		}
+	}
+
+	/**
+	 * Record the outcome of a permitted request.
+	 *
+	 * @param failed Whether the request failed.
+	 * @param durationNanos How long the request took.
+	 */
+	public synchronized void record(boolean failed, long durationNanos) {
+		if (state == CircuitBreakerState.OPEN) {
+			return;
+		}
+
+		final var outcome = (byte) ((failed ? FAILED : 0) | (durationNanos >= slowCallNanos ? SLOW : 0));
+
+		if (recorded == outcomes.length) {
+			forget(outcomes[position]);
+		} else {
+			++recorded;
+		}
+
+		outcomes[position] = outcome;
+		position = (position + 1) % outcomes.length;
+
+		if ((outcome & FAILED) != 0) {
+			++failures;
+		}
+
+		if ((outcome & SLOW) != 0) {
+			++slowCalls;
+		}
+
+		if (state == CircuitBreakerState.HALF_OPEN) {
+			if (recorded >= policy.halfOpenCalls()) {
+				transition(isOverThresholds() ? CircuitBreakerState.OPEN : CircuitBreakerState.CLOSED);
+			}
+		} else if (recorded >= policy.minimumCalls() && isOverThresholds()) {
+			transition(CircuitBreakerState.OPEN);
+		}
+	}
+
+	public synchronized CircuitBreakerState getState() {
+		if (state == CircuitBreakerState.OPEN && nanoClock.getAsLong() - openedAt >= openNanos) {
+			transition(CircuitBreakerState.HALF_OPEN);
+		}
+
+		return state;
+	}
+
+	private boolean isOverThresholds() {
+		return failures >= policy.failureRateThreshold() * recorded
+			|| slowCalls >= policy.slowCallRateThreshold() * recorded;
+	}
+
+	private void forget(byte outcome) {
+		if ((outcome & FAILED) != 0) {
+			--failures;
+		}
+
+		if ((outcome & SLOW) != 0) {
+			--slowCalls;
+		}
+	}
+
+	private void transition(CircuitBreakerState state) {
+		this.state = state;
+
+		position = 0;
+		recorded = 0;
+		failures = 0;
+		slowCalls = 0;
+
+		if (state == CircuitBreakerState.OPEN) {
+			openedAt = nanoClock.getAsLong();
+		} else if (state == CircuitBreakerState.HALF_OPEN) {
+			halfOpenPermits = policy.halfOpenCalls();
+		}
+	}
+
+}
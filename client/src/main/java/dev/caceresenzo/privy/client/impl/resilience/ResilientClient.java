@@ -0,0 +1,94 @@
+package dev.caceresenzo.privy.client.impl.resilience;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+import dev.caceresenzo.privy.client.EndpointGroup;
+import dev.caceresenzo.privy.client.PrivyClientException;
+import dev.caceresenzo.privy.client.impl.ratelimit.Endpoints;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+/**
+ * Protect the application from a degraded API, by failing fast instead of letting the requests pile up. <br />
+ * A bulkhead limits the number of concurrent requests per {@link EndpointGroup group of endpoints}, and a {@link CircuitBreaker circuit breaker} stops sending the requests while the API fails or is slow. <br />
+ * Only the transport failures and the 5xx responses are counted as failures.
+ */
+public class ResilientClient implements Client {
+
+	private final Client delegate;
+	private final CircuitBreaker circuitBreaker;
+	private final Map<EndpointGroup, Semaphore> bulkheads;
+
+	public ResilientClient(Client delegate, CircuitBreaker circuitBreaker, Map<EndpointGroup, Integer> maxConcurrentCalls) {
+		this.delegate = delegate;
+		this.circuitBreaker = circuitBreaker;
+		this.bulkheads = new EnumMap<>(EndpointGroup.class);
+
+		maxConcurrentCalls.forEach((group, permits) -> bulkheads.put(group, new Semaphore(permits)));
+	}
+
+	@Override
+	public Response execute(Request request, Request.Options options) throws IOException {
+		final var group = Endpoints.getGroup(request);
+
+		final var bulkhead = bulkheads.get(group);
+		if (bulkhead != null && !bulkhead.tryAcquire()) {
+			throw new PrivyClientException.BulkheadFull("too many concurrent requests to %s endpoints".formatted(group));
+		}
+
+		try {
+			return executeInCircuit(request, options);
+		} finally {
+			if (bulkhead != null) {
+				bulkhead.release();
+			}
+		}
+	}
+
+	private Response executeInCircuit(Request request, Request.Options options) throws IOException {
+		if (circuitBreaker == null) {
+			return delegate.execute(request, options);
+		}
+
+		if (!circuitBreaker.tryAcquirePermission()) {
+			throw new PrivyClientException.CircuitOpen("circuit breaker is open, the api is considered degraded");
+		}
+
+		final var start = System.nanoTime();
+
+		final Response response;
+		try {
+			response = delegate.execute(request, options);
+		} catch (IOException exception) {
+			circuitBreaker.record(true, System.nanoTime() - start);
+			throw exception;
+		} catch (RuntimeException | Error exception) {
+			/* a client-side failure, such as an exceeded deadline, says nothing about the api */
+			circuitBreaker.releasePermission();
+			throw exception;
+		}
+
+		circuitBreaker.record(response.status() >= 500, System.nanoTime() - start);
+		return response;
+	}
+
+	/**
+	 * Get the number of requests which can still be sent concurrently to a group.
+	 *
+	 * @param group The group of endpoints.
+	 * @return The number of available permits, or <code>-1</code> if the group is not limited.
+	 */
+	public int getAvailableConcurrentCalls(EndpointGroup group) {
+		final var bulkhead = bulkheads.get(group);
+		if (bulkhead == null) {
+			return -1;
+		}
+
+		return bulkhead.availablePermits();
+	}
+
+}
@@ -0,0 +1,13 @@
+package dev.caceresenzo.privy.client.impl.retry;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a request which must not be retried unless explicitly allowed, because sending it twice may not have the same effect as sending it once.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface NotIdempotent {}
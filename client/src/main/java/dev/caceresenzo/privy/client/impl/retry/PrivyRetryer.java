@@ -0,0 +1,123 @@
+package dev.caceresenzo.privy.client.impl.retry;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import dev.caceresenzo.privy.client.PrivyClientException;
+import dev.caceresenzo.privy.client.RetryPolicy;
+import dev.caceresenzo.privy.client.impl.timeout.Deadline;
+import feign.RetryableException;
+import feign.Retryer;
+
+/**
+ * Retry the transient failures following a {@link RetryPolicy}. <br />
+ * Feign {@link #clone() clones} the retryer for each request, the clones share the same {@link RetryBudget budget}.
+ */
+public class PrivyRetryer implements Retryer {
+
+	private final RetryPolicy policy;
+	private final RetryBudget budget;
+	private final LongSupplier clock;
+	private int attempt = 1;
+
+	public PrivyRetryer(RetryPolicy policy) {
+		this(policy, new RetryBudget(policy.budgetRatio(), policy.budgetCapacity()), System::currentTimeMillis);
+	}
+
+	PrivyRetryer(RetryPolicy policy, RetryBudget budget, LongSupplier clock) {
+		this.policy = policy;
+		this.budget = budget;
+		this.clock = clock;
+	}
+
+	@Override
+	public void continueOrPropagate(RetryableException exception) {
+		final var deadline = Deadline.current();
+		if (deadline != null && deadline.isExpired()) {
+			throw new PrivyClientException.DeadlineExceeded("deadline exceeded", exception);
+		}
+
+		if (!isRetryable(exception) || attempt >= policy.maxAttempts()) {
+			throw propagate(exception);
+		}
+
+		final var delayMillis = computeDelayMillis(exception);
+		if (delayMillis < 0) {
+			throw propagate(exception);
+		}
+
+		if (deadline != null && TimeUnit.MILLISECONDS.toNanos(delayMillis) >= deadline.remainingNanos()) {
+			throw new PrivyClientException.DeadlineExceeded("deadline exceeded before the next attempt", exception);
+		}
+
+		if (!budget.tryWithdraw()) {
+			throw propagate(exception);
+		}
+
+		++attempt;
+
+		try {
+			Thread.sleep(delayMillis);
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+
+			throw propagate(exception);
+		}
+	}
+
+	@Override
+	public Retryer clone() {
+		budget.deposit();
+
+		return new PrivyRetryer(policy, budget, clock);
+	}
+
+	public RetryBudget getBudget() {
+		return budget;
+	}
+
+	private boolean isRetryable(RetryableException exception) {
+		if (policy.retryNonIdempotent()) {
+			return true;
+		}
+
+		final var request = exception.request();
+		if (request == null || request.requestTemplate() == null || request.requestTemplate().methodMetadata() == null) {
+			return true;
+		}
+
+		final var method = request.requestTemplate().methodMetadata().method();
+		return method == null || !method.isAnnotationPresent(NotIdempotent.class);
+	}
+
+	/**
+	 * Compute the delay before the next attempt.
+	 *
+	 * @return The delay in milliseconds, or <code>-1</code> if the server asks for a longer delay than allowed.
+	 */
+	private long computeDelayMillis(RetryableException exception) {
+		final var maxBackoffMillis = policy.maxBackoff().toMillis();
+
+		final var retryAfter = exception.retryAfter();
+		if (retryAfter != null) {
+			final var delayMillis = Math.max(0, retryAfter - clock.getAsLong());
+
+			return delayMillis <= maxBackoffMillis ? delayMillis : -1;
+		}
+
+		final var exponent = Math.min(attempt - 1, 30);
+		final var backoffMillis = Math.min(maxBackoffMillis, policy.initialBackoff().toMillis() << exponent);
+
+		return ThreadLocalRandom.current().nextLong(backoffMillis + 1);
+	}
+
+	private static RuntimeException propagate(RetryableException exception) {
+		if (exception.getCause() instanceof PrivyClientException cause) {
+			return cause;
+		}
+
+		return exception;
+	}
+
+}
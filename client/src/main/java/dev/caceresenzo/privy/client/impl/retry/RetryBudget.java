@@ -0,0 +1,65 @@
+package dev.caceresenzo.privy.client.impl.retry;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A budget of retries shared by all the requests of a client. <br />
+ * Each request deposits a fraction of a retry, and each retry withdraws a whole one, so that the retries stay a fraction of the traffic during an outage.
+ */
+public class RetryBudget {
+
+	private static final long SCALE = 1000;
+
+	private final long deposit;
+	private final long capacity;
+	private final AtomicLong balance;
+
+	/**
+	 * @param ratio The number of retries earned by each request.
+	 * @param capacity The maximum number of retries that can be earned, which is also the initial number of retries available.
+	 */
+	public RetryBudget(double ratio, int capacity) {
+		this.deposit = Math.round(ratio * SCALE);
+		this.capacity = capacity * SCALE;
+		this.balance = new AtomicLong(this.capacity);
+	}
+
+	/**
+	 * Earn the retries of a request.
+	 */
+	public void deposit() {
+		if (deposit == 0) {
+			return;
+		}
+
+		balance.updateAndGet((current) -> Math.min(capacity, current + deposit));
+	}
+
+	/**
+	 * Spend a retry, if one is available.
+	 *
+	 * @return <code>true</code> if the retry can be done.
+	 */
+	public boolean tryWithdraw() {
+		while (true) {
+			final var current = balance.get();
+			if (current < SCALE) {
+				return false;
+			}
+
+			if (balance.compareAndSet(current, current - SCALE)) {
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Get the number of whole retries currently available.
+	 *
+	 * @return The number of retries.
+	 */
+	public long available() {
+		return balance.get() / SCALE;
+	}
+
+}
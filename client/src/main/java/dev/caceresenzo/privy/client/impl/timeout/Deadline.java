@@ -0,0 +1,113 @@
+package dev.caceresenzo.privy.client.impl.timeout;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * A point in time after which the calls give up. <br />
+ * The deadline of the current thread is read by the HTTP client, to shorten the timeouts, and by the retryer, to not retry past it.
+ *
+ * @param expiresAtNanos The {@link System#nanoTime() nano time} of the deadline.
+ */
+public record Deadline(
+	long expiresAtNanos
+) {
+
+	private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+	/**
+	 * Create a deadline starting now.
+	 *
+	 * @param timeout The duration until the deadline.
+	 * @return A new {@link Deadline}.
+	 */
+	public static Deadline after(Duration timeout) {
+		final var now = System.nanoTime();
+
+		long timeoutNanos;
+		try {
+			timeoutNanos = timeout.toNanos();
+		} catch (ArithmeticException __) {
+			timeoutNanos = Long.MAX_VALUE;
+		}
+
+		/* overflow-conscious, as nano times may be negative */
+		final var maxNanos = Long.MAX_VALUE / 2;
+		return new Deadline(now + Math.min(timeoutNanos, maxNanos));
+	}
+
+	/**
+	 * Get the deadline of the current thread.
+	 *
+	 * @return The deadline, or <code>null</code> if there is none.
+	 */
+	public static Deadline current() {
+		return CURRENT.get();
+	}
+
+	public long remainingNanos() {
+		return expiresAtNanos - System.nanoTime();
+	}
+
+	public boolean isExpired() {
+		return remainingNanos() <= 0;
+	}
+
+	/**
+	 * Run a call under this deadline, or under the one of the current thread if it is earlier.
+	 *
+	 * @param <T> The type of the result.
+	 * @param call The call to run.
+	 * @return The result of the call.
+	 */
+	public <T> T call(Supplier<T> call) {
+		final var previous = CURRENT.get();
+
+		if (previous == null || expiresAtNanos - previous.expiresAtNanos < 0) {
+			CURRENT.set(this);
+		}
+
+		try {
+			return call.get();
+		} finally {
+			if (previous != null) {
+				CURRENT.set(previous);
+			} else {
+				CURRENT.remove();
+			}
+		}
+	}
+
+	/**
+	 * Bind an instance to this deadline, so that all of its methods are {@link #call(Supplier) called} under it.
+	 *
+	 * @param <T> The type of the instance.
+	 * @param type The interface to bind.
+	 * @param target The instance to bind.
+	 * @return A proxy of the instance.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T bind(Class<T> type, T target) {
+		return (T) Proxy.newProxyInstance(
+			type.getClassLoader(),
+			new Class<?>[] { type },
+			(proxy, method, arguments) -> call(() -> {
+				try {
+					return method.invoke(target, arguments);
+				} catch (InvocationTargetException exception) {
+					throw sneakyThrow(exception.getCause());
+				} catch (IllegalAccessException exception) {
+					throw new IllegalStateException(exception);
+				}
+			})
+		);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <E extends Throwable> RuntimeException sneakyThrow(Throwable throwable) throws E {
+		throw (E) throwable;
+	}
+
+}
@@ -0,0 +1,64 @@
+package dev.caceresenzo.privy.client.impl.timeout;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import dev.caceresenzo.privy.client.EndpointGroup;
+import dev.caceresenzo.privy.client.PrivyClientException;
+import dev.caceresenzo.privy.client.Timeouts;
+import dev.caceresenzo.privy.client.impl.ratelimit.Endpoints;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+/**
+ * Apply the {@link Timeouts timeouts} of the {@link EndpointGroup group of endpoints} of each request, shortened to the {@link Deadline deadline} of the current thread.
+ */
+public class TimeoutClient implements Client {
+
+	private final Client delegate;
+	private final Map<EndpointGroup, Request.Options> options;
+
+	public TimeoutClient(Client delegate, Timeouts timeouts, Map<EndpointGroup, Timeouts> endpointTimeouts) {
+		this.delegate = delegate;
+		this.options = new EnumMap<>(EndpointGroup.class);
+
+		for (final var group : EndpointGroup.values()) {
+			options.put(group, toOptions(endpointTimeouts.getOrDefault(group, timeouts)));
+		}
+	}
+
+	@Override
+	public Response execute(Request request, Request.Options ignored) throws IOException {
+		var options = this.options.get(Endpoints.getGroup(request));
+
+		final var deadline = Deadline.current();
+		if (deadline != null) {
+			final var remainingNanos = deadline.remainingNanos();
+			if (remainingNanos <= 0) {
+				throw new PrivyClientException.DeadlineExceeded("deadline exceeded before sending the request");
+			}
+
+			final var remainingMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(remainingNanos));
+			if (remainingMillis < options.readTimeoutMillis()) {
+				/* only the read timeout is shortened, as another connect timeout would need another client */
+				options = new Request.Options(options.connectTimeoutMillis(), TimeUnit.MILLISECONDS, remainingMillis, TimeUnit.MILLISECONDS, options.isFollowRedirects());
+			}
+		}
+
+		return delegate.execute(request, options);
+	}
+
+	/**
+	 * Convert timeouts to Feign options.
+	 *
+	 * @param timeouts The timeouts to convert.
+	 * @return The equivalent {@link Request.Options}, following the redirects like the HTTP clients.
+	 */
+	public static Request.Options toOptions(Timeouts timeouts) {
+		return new Request.Options(timeouts.connectTimeout().toMillis(), TimeUnit.MILLISECONDS, timeouts.readTimeout().toMillis(), TimeUnit.MILLISECONDS, true);
+	}
+
+}
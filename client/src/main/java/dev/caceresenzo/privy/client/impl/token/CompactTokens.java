@@ -0,0 +1,96 @@
+package dev.caceresenzo.privy.client.impl.token;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import dev.caceresenzo.privy.util.PrivyMapper;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class CompactTokens {
+
+	private static final ObjectReader MAP_READER = PrivyMapper.WIRE.readerFor(new TypeReference<Map<String, Object>>() {});
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	/**
+	 * Find the positions of the two dots of a compact JWS.
+	 *
+	 * @param token The compact JWS.
+	 * @return The positions of the first and second dots, or <code>null</code> if the token does not have exactly three non-empty parts.
+	 */
+	public static int[] findDots(String token) {
+		final var firstDot = token.indexOf('.');
+		final var secondDot = token.indexOf('.', firstDot + 1);
+
+		if (firstDot <= 0 || secondDot <= firstDot + 1 || secondDot == token.length() - 1 || token.indexOf('.', secondDot + 1) != -1) {
+			return null;
+		}
+
+		return new int[] { firstDot, secondDot };
+	}
+
+	/**
+	 * Decode the payload of a compact JWS without verifying it.
+	 *
+	 * @param token The compact JWS.
+	 * @return The payload claims, or <code>null</code> if they cannot be decoded.
+	 */
+	public static Map<String, Object> decodePayload(String token) {
+		final var dots = findDots(token);
+		if (dots == null) {
+			return null;
+		}
+
+		try {
+			final var bytes = token.substring(dots[0] + 1, dots[1]).getBytes(StandardCharsets.US_ASCII);
+
+			return readMap(bytes, 0, bytes.length);
+		} catch (IOException | IllegalArgumentException __) {
+			return null;
+		}
+	}
+
+	public static Map<String, Object> readMap(byte[] bytes, int offset, int length) throws IOException {
+		return MAP_READER.readValue(decode(bytes, offset, length));
+	}
+
+	public static byte[] decode(byte[] bytes, int offset, int length) {
+		final var buffer = DECODER.decode(ByteBuffer.wrap(bytes, offset, length));
+
+		if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.remaining() == buffer.array().length) {
+			return buffer.array();
+		}
+
+		final var decoded = new byte[buffer.remaining()];
+		buffer.get(decoded);
+
+		return decoded;
+	}
+
+	/**
+	 * Check if the audience claim contains an audience.
+	 *
+	 * @param claim The raw audience claim, either a string or a collection of strings.
+	 * @param audience The expected audience.
+	 * @return <code>true</code> if the audience is present.
+	 */
+	public static boolean hasAudience(Object claim, String audience) {
+		if (claim instanceof String value) {
+			return audience.equals(value);
+		}
+
+		if (claim instanceof Collection<?> values) {
+			return values.contains(audience);
+		}
+
+		return false;
+	}
+
+}
@@ -0,0 +1,135 @@
+package dev.caceresenzo.privy.client.impl.token;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.util.Map;
+import java.util.Set;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+
+/**
+ * Verify the tokens issued by Privy without going through the generic JWT parser. <br />
+ * Only the exact shape used by Privy is handled: a compact ES256 JWS, with no critical header, issued by <code>privy.io</code> for the application. <br />
+ * Anything else, including an invalid signature or expired claims, is not rejected but reported as unhandled, so that the caller can fall back to the generic parser and its detailed exceptions.
+ */
+public class Es256TokenVerifier {
+
+	public static final String ALGORITHM = "ES256";
+	public static final String JCA_ALGORITHM = "SHA256withECDSAinP1363Format";
+	public static final int SIGNATURE_LENGTH = 64;
+
+	private static final Set<String> KNOWN_HEADERS = Set.of("alg", "typ", "kid");
+
+	private final String issuer;
+	private final String audience;
+	private final ThreadLocal<BoundSignature> signatures = new ThreadLocal<>();
+
+	public Es256TokenVerifier(String issuer, String audience) {
+		this.issuer = issuer;
+		this.audience = audience;
+	}
+
+	/**
+	 * Verify a token.
+	 *
+	 * @param token The compact JWS.
+	 * @param key The verification key.
+	 * @return The verified token, or <code>null</code> if the token must be verified by the generic parser instead.
+	 */
+	public Jws<Claims> verify(String token, PublicKey key) {
+		final var dots = CompactTokens.findDots(token);
+		if (dots == null) {
+			return null;
+		}
+
+		final var firstDot = dots[0];
+		final var secondDot = dots[1];
+
+		final var bytes = token.getBytes(StandardCharsets.US_ASCII);
+
+		try {
+			final var header = CompactTokens.readMap(bytes, 0, firstDot);
+			if (!isSupported(header)) {
+				return null;
+			}
+
+			final var payload = CompactTokens.readMap(bytes, firstDot + 1, secondDot - firstDot - 1);
+			if (!isValid(payload, System.currentTimeMillis() / 1000)) {
+				return null;
+			}
+
+			final var signatureBytes = CompactTokens.decode(bytes, secondDot + 1, bytes.length - secondDot - 1);
+			if (signatureBytes.length != SIGNATURE_LENGTH) {
+				return null;
+			}
+
+			final var signature = signatureFor(key);
+			signature.update(bytes, 0, secondDot);
+
+			if (!signature.verify(signatureBytes)) {
+				return null;
+			}
+
+			return new TokenJws(
+				new TokenHeader(header),
+				new TokenClaims(payload),
+				token.substring(secondDot + 1)
+			);
+		} catch (IOException | IllegalArgumentException | GeneralSecurityException __) {
+			return null;
+		}
+	}
+
+	private boolean isSupported(Map<String, Object> header) {
+		return ALGORITHM.equals(header.get("alg"))
+			&& KNOWN_HEADERS.containsAll(header.keySet());
+	}
+
+	private boolean isValid(Map<String, Object> payload, long nowSeconds) {
+		if (!(payload.get("exp") instanceof Number expiration) || expiration.longValue() <= nowSeconds) {
+			return false;
+		}
+
+		if (payload.get("nbf") instanceof Number notBefore && notBefore.longValue() > nowSeconds) {
+			return false;
+		}
+
+		if (!issuer.equals(payload.get("iss"))) {
+			return false;
+		}
+
+		return CompactTokens.hasAudience(payload.get("aud"), audience);
+	}
+
+	private Signature signatureFor(PublicKey key) throws GeneralSecurityException {
+		var bound = signatures.get();
+
+		if (bound == null) {
+			bound = new BoundSignature(Signature.getInstance(JCA_ALGORITHM));
+			signatures.set(bound);
+		}
+
+		if (bound.key != key) {
+			bound.signature.initVerify(key);
+			bound.key = key;
+		}
+
+		return bound.signature;
+	}
+
+	private static class BoundSignature {
+
+		private final Signature signature;
+		private PublicKey key;
+
+		public BoundSignature(Signature signature) {
+			this.signature = signature;
+		}
+
+	}
+
+}
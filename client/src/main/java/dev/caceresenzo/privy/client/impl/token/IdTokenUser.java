@@ -0,0 +1,111 @@
+package dev.caceresenzo.privy.client.impl.token;
+
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import dev.caceresenzo.privy.model.CustomMetadata;
+import dev.caceresenzo.privy.model.LinkedAccount;
+import dev.caceresenzo.privy.model.User;
+import dev.caceresenzo.privy.util.PrivyMapper;
+import io.jsonwebtoken.MalformedJwtException;
+
+/**
+ * A {@link User} read from an identity token, whose linked accounts and custom metadata are only decoded on first access. <br />
+ * The {@link User#customMetadata} field is only filled once {@link #getCustomMetadata()} has been called. <br />
+ * The decoded values are safely published, so that a user can be shared between threads.
+ */
+public class IdTokenUser extends User {
+
+	private static final ObjectReader LINKED_ACCOUNTS_READER = PrivyMapper.WIRE.readerFor(new TypeReference<List<LinkedAccount>>() {});
+	private static final ObjectReader CUSTOM_METADATA_READER = PrivyMapper.WIRE.readerFor(CustomMetadata.class);
+
+	private volatile String linkedAccountsJson;
+	private volatile List<LinkedAccount> decodedLinkedAccounts;
+
+	private volatile String customMetadataJson;
+	private volatile CustomMetadata decodedCustomMetadata;
+
+	public IdTokenUser(String linkedAccountsJson, String customMetadataJson) {
+		this.linkedAccountsJson = linkedAccountsJson;
+		this.customMetadataJson = customMetadataJson;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @throws MalformedJwtException If the linked accounts of the token cannot be decoded.
+	 */
+	@Override
+	public List<LinkedAccount> getLinkedAccounts() {
+		var linkedAccounts = decodedLinkedAccounts;
+		if (linkedAccounts != null) {
+			return linkedAccounts;
+		}
+
+		final var json = linkedAccountsJson;
+		if (json == null) {
+			return super.getLinkedAccounts();
+		}
+
+		try {
+			linkedAccounts = LINKED_ACCOUNTS_READER.readValue(json);
+		} catch (JsonProcessingException exception) {
+			throw new MalformedJwtException("failed to parse linked accounts", exception);
+		}
+
+		/* the volatile write publishes the fully decoded list */
+		super.setLinkedAccounts(linkedAccounts);
+		decodedLinkedAccounts = linkedAccounts;
+
+		return linkedAccounts;
+	}
+
+	@Override
+	public void setLinkedAccounts(List<LinkedAccount> linkedAccounts) {
+		super.setLinkedAccounts(linkedAccounts);
+
+		linkedAccountsJson = null;
+		decodedLinkedAccounts = linkedAccounts;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @throws MalformedJwtException If the custom metadata of the token cannot be decoded.
+	 */
+	@Override
+	public CustomMetadata getCustomMetadata() {
+		var customMetadata = decodedCustomMetadata;
+		if (customMetadata != null) {
+			return customMetadata;
+		}
+
+		final var json = customMetadataJson;
+		if (json == null) {
+			return super.getCustomMetadata();
+		}
+
+		try {
+			customMetadata = CUSTOM_METADATA_READER.readValue(json);
+		} catch (JsonProcessingException exception) {
+			throw new MalformedJwtException("failed to parse custom metadata", exception);
+		}
+
+		super.setCustomMetadata(customMetadata);
+		decodedCustomMetadata = customMetadata;
+
+		return customMetadata;
+	}
+
+	@Override
+	public void setCustomMetadata(CustomMetadata customMetadata) {
+		super.setCustomMetadata(customMetadata);
+
+		customMetadataJson = null;
+		decodedCustomMetadata = customMetadata;
+	}
+
+}
@@ -0,0 +1,184 @@
+package dev.caceresenzo.privy.client.impl.token;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.RequiredTypeException;
+
+/**
+ * A read-only view of the claims of a token decoded without the generic parser, by the {@link Es256TokenVerifier} or the {@link TokenPrechecker}. <br />
+ * The numeric dates and the integral numbers are converted to the required type, like the generic parser does.
+ */
+public class TokenClaims extends AbstractMap<String, Object> implements Claims {
+
+	private static final Set<String> DATE_CLAIMS = Set.of(EXPIRATION, NOT_BEFORE, ISSUED_AT);
+
+	private final Map<String, Object> claims;
+
+	public TokenClaims(Map<String, Object> claims) {
+		this.claims = Collections.unmodifiableMap(normalizeDates(claims));
+	}
+
+	@Override
+	public String getIssuer() {
+		return get(ISSUER, String.class);
+	}
+
+	@Override
+	public String getSubject() {
+		return get(SUBJECT, String.class);
+	}
+
+	@Override
+	public Set<String> getAudience() {
+		final var audience = claims.get(AUDIENCE);
+
+		if (audience instanceof String value) {
+			return Set.of(value);
+		}
+
+		if (audience instanceof Collection<?> values) {
+			final var set = new LinkedHashSet<String>();
+			values.forEach((value) -> set.add(String.valueOf(value)));
+
+			return Collections.unmodifiableSet(set);
+		}
+
+		return null;
+	}
+
+	@Override
+	public Date getExpiration() {
+		return get(EXPIRATION, Date.class);
+	}
+
+	@Override
+	public Date getNotBefore() {
+		return get(NOT_BEFORE, Date.class);
+	}
+
+	@Override
+	public Date getIssuedAt() {
+		return get(ISSUED_AT, Date.class);
+	}
+
+	@Override
+	public String getId() {
+		return get(ID, String.class);
+	}
+
+	@Override
+	public <T> T get(String claimName, Class<T> requiredType) {
+		final var value = claims.get(claimName);
+		if (value == null) {
+			return null;
+		}
+
+		if (requiredType == Date.class && value instanceof Number number) {
+			return requiredType.cast(toDate(claimName, number.longValue()));
+		}
+
+		if (requiredType == Date.class && value instanceof String text) {
+			return requiredType.cast(parseDate(claimName, text));
+		}
+
+		final var converted = convertIntegral(claimName, value, requiredType);
+		if (!requiredType.isInstance(converted)) {
+			throw new RequiredTypeException("claim %s is a %s, not a %s".formatted(claimName, value.getClass().getName(), requiredType.getName()));
+		}
+
+		return requiredType.cast(converted);
+	}
+
+	/** Widen or narrow an integral value to the required type, like the generic parser does. */
+	private static Object convertIntegral(String claimName, Object value, Class<?> requiredType) {
+		if (!(value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte)) {
+			return value;
+		}
+
+		final var number = ((Number) value).longValue();
+
+		if (requiredType == Long.class) {
+			return number;
+		}
+
+		if (requiredType == Integer.class && number == (int) number) {
+			return (int) number;
+		}
+
+		if (requiredType == Short.class && number == (short) number) {
+			return (short) number;
+		}
+
+		if (requiredType == Byte.class && number == (byte) number) {
+			return (byte) number;
+		}
+
+		if (value instanceof Long && (requiredType == Integer.class || requiredType == Short.class || requiredType == Byte.class)) {
+			throw new RequiredTypeException("claim %s is too large or too small to be a %s".formatted(claimName, requiredType.getName()));
+		}
+
+		return value;
+	}
+
+	/** Like the generic parser, only the registered dates are in seconds. */
+	private static Date toDate(String claimName, long value) {
+		return new Date(isDateClaim(claimName) ? value * 1000 : value);
+	}
+
+	private static Date parseDate(String claimName, String text) {
+		try {
+			return Date.from(Instant.parse(text));
+		} catch (DateTimeParseException exception) {
+			throw new IllegalArgumentException("claim %s is not an ISO-8601 date".formatted(claimName), exception);
+		}
+	}
+
+	/** Hold the registered dates as longs, like the generic parser does, copying the claims only if needed. */
+	private static Map<String, Object> normalizeDates(Map<String, Object> claims) {
+		Map<String, Object> normalized = claims;
+
+		for (final var claimName : DATE_CLAIMS) {
+			final var value = claims.get(claimName);
+
+			if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+				if (normalized == claims) {
+					normalized = new LinkedHashMap<>(claims);
+				}
+
+				normalized.put(claimName, ((Number) value).longValue());
+			}
+		}
+
+		return normalized;
+	}
+
+	private static boolean isDateClaim(String claimName) {
+		return DATE_CLAIMS.contains(claimName);
+	}
+
+	@Override
+	public Object get(Object key) {
+		return claims.get(key);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return claims.containsKey(key);
+	}
+
+	@Override
+	public Set<Entry<String, Object>> entrySet() {
+		return claims.entrySet();
+	}
+
+}
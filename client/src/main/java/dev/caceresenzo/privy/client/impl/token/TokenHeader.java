@@ -0,0 +1,112 @@
+package dev.caceresenzo.privy.client.impl.token;
+
+import java.net.URI;
+import java.security.cert.X509Certificate;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.security.PublicJwk;
+
+/**
+ * A read-only view of the header of a token verified by the {@link Es256TokenVerifier}. <br />
+ * The verifier only accepts the <code>alg</code>, <code>typ</code> and <code>kid</code> parameters, so all the others are absent.
+ */
+public class TokenHeader extends AbstractMap<String, Object> implements JwsHeader {
+
+	private final Map<String, Object> header;
+
+	public TokenHeader(Map<String, Object> header) {
+		this.header = Collections.unmodifiableMap(header);
+	}
+
+	@Override
+	public String getType() {
+		return getString("typ");
+	}
+
+	@Override
+	public String getContentType() {
+		return getString("cty");
+	}
+
+	@Override
+	public String getAlgorithm() {
+		return getString("alg");
+	}
+
+	@Override
+	public String getCompressionAlgorithm() {
+		return getString("zip");
+	}
+
+	@Override
+	public String getKeyId() {
+		return getString("kid");
+	}
+
+	@Override
+	public URI getJwkSetUrl() {
+		return null;
+	}
+
+	@Override
+	public PublicJwk<?> getJwk() {
+		return null;
+	}
+
+	@Override
+	public Set<String> getCritical() {
+		return null;
+	}
+
+	@Override
+	public URI getX509Url() {
+		return null;
+	}
+
+	@Override
+	public List<X509Certificate> getX509Chain() {
+		return null;
+	}
+
+	@Override
+	public byte[] getX509Sha1Thumbprint() {
+		return null;
+	}
+
+	@Override
+	public byte[] getX509Sha256Thumbprint() {
+		return null;
+	}
+
+	@Override
+	public boolean isPayloadEncoded() {
+		return true;
+	}
+
+	@Override
+	public Object get(Object key) {
+		return header.get(key);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return header.containsKey(key);
+	}
+
+	@Override
+	public Set<Entry<String, Object>> entrySet() {
+		return header.entrySet();
+	}
+
+	private String getString(String name) {
+		return header.get(name) instanceof String value
+			? value
+			: null;
+	}
+
+}
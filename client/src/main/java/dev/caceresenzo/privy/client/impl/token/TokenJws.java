@@ -0,0 +1,55 @@
+package dev.caceresenzo.privy.client.impl.token;
+
+import java.util.Base64;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtVisitor;
+
+/**
+ * A token verified by the {@link Es256TokenVerifier}, built without the internals of the JWT library.
+ *
+ * @param header The header.
+ * @param payload The claims.
+ * @param signature The signature, encoded in Base64 URL.
+ */
+public record TokenJws(
+	TokenHeader header,
+	TokenClaims payload,
+	String signature
+) implements Jws<Claims> {
+
+	@Override
+	public JwsHeader getHeader() {
+		return header;
+	}
+
+	@Override
+	public Claims getPayload() {
+		return payload;
+	}
+
+	@Override
+	@Deprecated
+	public Claims getBody() {
+		return payload;
+	}
+
+	@Override
+	public byte[] getDigest() {
+		return Base64.getUrlDecoder().decode(signature);
+	}
+
+	@Override
+	@Deprecated
+	public String getSignature() {
+		return signature;
+	}
+
+	@Override
+	public <T> T accept(JwtVisitor<T> visitor) {
+		return visitor.visit(this);
+	}
+
+}
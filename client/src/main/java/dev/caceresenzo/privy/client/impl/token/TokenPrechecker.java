@@ -0,0 +1,66 @@
+package dev.caceresenzo.privy.client.impl.token;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import dev.caceresenzo.privy.client.RejectedTokenException;
+import io.jsonwebtoken.Claims;
+
+/**
+ * Reject the tokens that are expired or not meant for the application by only decoding their payload. <br />
+ * This is cheap compared to a signature verification, and the tokens that cannot be decoded are left for the parser to reject.
+ */
+public class TokenPrechecker {
+
+	private final String issuer;
+	private final String audience;
+	private final long clockSkewSeconds;
+
+	public TokenPrechecker(String issuer, String audience, Duration clockSkew) {
+		if (clockSkew == null || clockSkew.isNegative()) {
+			throw new IllegalArgumentException("clockSkew must not be null or negative");
+		}
+
+		this.issuer = issuer;
+		this.audience = audience;
+		this.clockSkewSeconds = clockSkew.toSeconds();
+	}
+
+	/**
+	 * Check the claims of a token.
+	 *
+	 * @param token The compact JWS.
+	 * @throws RejectedTokenException.Expired If the token is expired.
+	 * @throws RejectedTokenException.IncorrectClaim If the token has not been issued by Privy or is for another application.
+	 */
+	public void check(String token) {
+		final var payload = CompactTokens.decodePayload(token);
+		if (payload == null) {
+			return;
+		}
+
+		if (payload.get("exp") instanceof Number expiration) {
+			final var nowSeconds = System.currentTimeMillis() / 1000;
+
+			if (expiration.longValue() + clockSkewSeconds <= nowSeconds) {
+				throw new RejectedTokenException.Expired(claims(payload), "JWT expired at %s. Current time: %s.".formatted(Instant.ofEpochSecond(expiration.longValue()), Instant.ofEpochSecond(nowSeconds)));
+			}
+		}
+
+		final var tokenIssuer = payload.get("iss");
+		if (!issuer.equals(tokenIssuer)) {
+			throw new RejectedTokenException.IncorrectClaim(claims(payload), "Expected iss claim to be: %s, but was: %s.".formatted(issuer, tokenIssuer), Claims.ISSUER, tokenIssuer);
+		}
+
+		final var tokenAudience = payload.get("aud");
+		if (!CompactTokens.hasAudience(tokenAudience, audience)) {
+			throw new RejectedTokenException.IncorrectClaim(claims(payload), "Expected aud claim to contain: %s, but was: %s.".formatted(audience, tokenAudience), Claims.AUDIENCE, tokenAudience);
+		}
+	}
+
+	private static Claims claims(Map<String, Object> payload) {
+		return new TokenClaims(payload);
+	}
+
+}
@@ -1,34 +1,72 @@
 package dev.caceresenzo.privy.util;
 
 import java.util.Date;
+import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 
+import dev.caceresenzo.privy.model.Event;
+import dev.caceresenzo.privy.model.User;
 import dev.caceresenzo.privy.util.serial.UnixDateDeserializer;
 import lombok.experimental.UtilityClass;
 
 @UtilityClass
 public class PrivyMapper {
 
-	public static final ObjectMapper INSTANCE = newJackson();
+	/** The modules generating bytecode to speed up the databind, by order of preference, used when found on the classpath. */
+	public static final List<String> BYTECODE_MODULES = List.of(
+		"com.fasterxml.jackson.module.blackbird.BlackbirdModule",
+		"com.fasterxml.jackson.module.afterburner.AfterburnerModule"
+	);
 
-	private static ObjectMapper newJackson() {
+	/** The mapper for humans, indenting its output. */
+	public static final ObjectMapper INSTANCE = newJackson(true);
+
+	/** The mapper for the API and the webhooks, writing compact JSON and using a bytecode module if available. */
+	public static final ObjectMapper WIRE = newJackson(false);
+
+	public static final ObjectReader USER_READER = WIRE.readerFor(User.class);
+	public static final ObjectReader EVENT_READER = WIRE.readerFor(Event.class);
+
+	private static ObjectMapper newJackson(boolean indent) {
 		final var module = new SimpleModule();
 		module.addDeserializer(Date.class, new UnixDateDeserializer());
 
-		return JsonMapper.builder()
+		final var builder = JsonMapper.builder()
 			.serializationInclusion(JsonInclude.Include.NON_NULL)
-			.configure(SerializationFeature.INDENT_OUTPUT, true)
+			.configure(SerializationFeature.INDENT_OUTPUT, indent)
 			.configure(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS, false)
 			.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true)
 			.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-			.addModule(module)
-			.build();
+			.addModule(module);
+
+		if (!indent) {
+			final var bytecodeModule = findBytecodeModule();
+			if (bytecodeModule != null) {
+				builder.addModule(bytecodeModule);
+			}
+		}
+
+		return builder.build();
+	}
+
+	private static Module findBytecodeModule() {
+		for (final var className : BYTECODE_MODULES) {
+			try {
+				return (Module) Class.forName(className).getConstructor().newInstance();
+			} catch (ReflectiveOperationException | LinkageError __) {
+				/* not on the classpath */
+			}
+		}
+
+		return null;
 	}
 
-}
\ No newline at end of file
+}
@@ -38,7 +38,7 @@ public class WebhookImpl implements PrivyWebhook {
 		}
 
 		try {
-			return PrivyMapper.INSTANCE.readValue(body, Event.class);
+			return PrivyMapper.EVENT_READER.readValue(body);
 		} catch (JsonProcessingException exception) {
 			throw new PrivyWebhookException.PayloadCannotBeRead("payload cannot be read", exception);
 		}
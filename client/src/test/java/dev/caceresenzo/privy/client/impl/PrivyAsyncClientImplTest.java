@@ -0,0 +1,109 @@
+package dev.caceresenzo.privy.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import dev.caceresenzo.privy.client.PrivyAsyncClient;
+import dev.caceresenzo.privy.client.PrivyClient;
+import dev.caceresenzo.privy.client.PrivyClientException;
+
+class PrivyAsyncClientImplTest {
+
+	static final String APPLICATION_ID = "a0b1c2d3e4f5g6h7i8j9k0l1m";
+
+	HttpServer server;
+	PrivyAsyncClient client;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/api/v1/users/", (exchange) -> {
+			final var path = exchange.getRequestURI().getPath();
+
+			final int status;
+			final String body;
+			if (path.endsWith("/did:privy:hello")) {
+				status = 200;
+				body = "{\"id\":\"did:privy:hello\",\"linked_accounts\":[]}";
+			} else if (path.endsWith("/did:privy:limited")) {
+				status = 429;
+				body = "{\"error\":\"Too many requests\"}";
+				exchange.getResponseHeaders().add("Retry-After", "1");
+			} else if (path.endsWith("/did:privy:broken")) {
+				status = 400;
+				body = "{\"error\":\"Something went wrong\"}";
+			} else {
+				status = 404;
+				body = "{\"error\":\"User not found\"}";
+			}
+
+			final var bytes = body.getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(status, bytes.length);
+			exchange.getResponseBody().write(bytes);
+			exchange.close();
+		});
+		server.start();
+
+		client = PrivyClient.builder()
+			.apiUrl("http://localhost:" + server.getAddress().getPort())
+			.applicationId(APPLICATION_ID)
+			.applicationSecret("secret")
+			.buildAsync();
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+	}
+
+	@Test
+	void findUserById() {
+		assertThat(client.findUserById("did:privy:hello").join())
+			.hasValueSatisfying((user) -> assertThat(user.getId()).isEqualTo("did:privy:hello"));
+	}
+
+	@Test
+	void findUserByIdNotFound() {
+		assertThat(client.findUserById("did:privy:unknown").join()).isEmpty();
+		assertThat(client.findUserById(" ").join()).isEmpty();
+	}
+
+	@Test
+	void findUserByIdFailure() {
+		assertThatThrownBy(() -> client.findUserById("did:privy:broken").join())
+			.isInstanceOf(CompletionException.class)
+			.cause()
+			.isExactlyInstanceOf(PrivyClientException.class)
+			.hasMessage("Something went wrong");
+	}
+
+	@Test
+	void findUserByIdRateLimited() {
+		assertThatThrownBy(() -> client.findUserById("did:privy:limited").get(5, TimeUnit.SECONDS))
+			.isInstanceOf(ExecutionException.class)
+			.cause()
+			.isInstanceOf(PrivyClientException.RateLimited.class);
+	}
+
+	@Test
+	void deleteUserById() {
+		assertThat(client.deleteUserById("did:privy:hello").join()).isTrue();
+		assertThat(client.deleteUserById("did:privy:unknown").join()).isFalse();
+	}
+
+}
@@ -0,0 +1,1078 @@
+package dev.caceresenzo.privy.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.sun.net.httpserver.HttpServer;
+
+import dev.caceresenzo.privy.client.AuthTokenVerification;
+import dev.caceresenzo.privy.client.CircuitBreakerPolicy;
+import dev.caceresenzo.privy.client.CircuitBreakerState;
+import dev.caceresenzo.privy.client.CursorCheckpoint;
+import dev.caceresenzo.privy.client.EndpointGroup;
+import dev.caceresenzo.privy.client.PrivyClient;
+import dev.caceresenzo.privy.client.PrivyClientException;
+import dev.caceresenzo.privy.client.RateLimit;
+import dev.caceresenzo.privy.client.RejectedTokenException;
+import dev.caceresenzo.privy.client.RetryPolicy;
+import dev.caceresenzo.privy.client.Timeouts;
+import dev.caceresenzo.privy.client.TokenCacheStatistics;
+import dev.caceresenzo.privy.client.impl.concurrent.VirtualThreads;
+import dev.caceresenzo.privy.client.impl.http.HttpClients;
+import dev.caceresenzo.privy.client.impl.key.VerificationKeys;
+import dev.caceresenzo.privy.client.impl.pagination.PageSpliterator;
+import dev.caceresenzo.privy.model.LinkedAccount;
+import dev.caceresenzo.privy.model.User;
+import dev.caceresenzo.privy.util.PrivyMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.IncorrectClaimException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.MissingClaimException;
+import io.jsonwebtoken.security.SignatureException;
+
+class PrivyClientImplTest {
+
+	static final String APPLICATION_ID = "a0b1c2d3e4f5g6h7i8j9k0l1m";
+	static final KeyPair KEY_PAIR = Jwts.SIG.ES256.keyPair().build();
+
+	static PrivyClient.Builder builder() {
+		return PrivyClient.builder()
+			.apiUrl("http://localhost:1")
+			.applicationId(APPLICATION_ID)
+			.applicationSecret("secret")
+			.verificationKey(VerificationKeys.toPem(KEY_PAIR.getPublic()));
+	}
+
+	static String token(Instant expiration) {
+		return token(expiration, KEY_PAIR.getPrivate());
+	}
+
+	static String token(Instant expiration, PrivateKey privateKey) {
+		return Jwts.builder()
+			.issuer("privy.io")
+			.audience().add(APPLICATION_ID).and()
+			.subject("did:privy:hello")
+			.issuedAt(new Date())
+			.expiration(Date.from(expiration))
+			.signWith(privateKey, Jwts.SIG.ES256)
+			.compact();
+	}
+
+	@Test
+	void verifyAuthToken() {
+		try (final var client = builder().build()) {
+			final var jwt = client.verifyAuthToken(token(Instant.now().plus(1, ChronoUnit.HOURS)));
+
+			assertThat(jwt.getPayload().getSubject()).isEqualTo("did:privy:hello");
+		}
+	}
+
+	@Test
+	void verifyAuthTokenExpired() {
+		try (final var client = builder().build()) {
+			final var token = token(Instant.now().minus(1, ChronoUnit.HOURS));
+
+			assertThatThrownBy(() -> client.verifyAuthToken(token))
+				.isInstanceOf(ExpiredJwtException.class);
+		}
+	}
+
+	@Test
+	void verifyAuthTokenWithAnotherKey() {
+		final var otherKey = Jwts.SIG.ES256.keyPair().build().getPublic();
+
+		try (final var client = builder().verificationKey(VerificationKeys.toPem(otherKey)).build()) {
+			final var token = token(Instant.now().plus(1, ChronoUnit.HOURS));
+
+			assertThatThrownBy(() -> client.verifyAuthToken(token))
+				.isInstanceOf(SignatureException.class);
+		}
+	}
+
+	@Test
+	void verifyAuthTokens() {
+		try (final var client = builder().build()) {
+			final var valid = token(Instant.now().plus(1, ChronoUnit.HOURS));
+			final var expired = token(Instant.now().minus(1, ChronoUnit.HOURS));
+
+			final var results = client.verifyAuthTokens(List.of(valid, expired, valid, "invalid"));
+
+			assertThat(results).containsOnlyKeys(valid, expired, "invalid");
+			assertThat(results.get(valid).getOrThrow().getPayload().getSubject()).isEqualTo("did:privy:hello");
+			assertThat(results.get(expired).exception()).isInstanceOf(ExpiredJwtException.class);
+			assertThat(results.get("invalid").exception()).isInstanceOf(MalformedJwtException.class);
+		}
+	}
+
+	@Test
+	void verifyAuthTokensParallel() {
+		final var executor = Executors.newFixedThreadPool(4);
+
+		try (final var client = builder().build()) {
+			final var tokens = IntStream.range(0, 16)
+				.mapToObj((index) -> token(Instant.now().plus(index + 1, ChronoUnit.HOURS)))
+				.toList();
+
+			final var results = client.verifyAuthTokens(tokens, executor);
+
+			assertThat(results.keySet()).containsExactlyElementsOf(tokens);
+			assertThat(results.values()).allMatch(AuthTokenVerification::isValid);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void verifyAuthTokensParallelUnwrapsFailure() {
+		final var executor = Executors.newFixedThreadPool(4);
+
+		final var builder = builder()
+			.jwtParserCustomizer((parser) -> parser.clock(() -> {
+				throw new IllegalStateException("broken clock");
+			}));
+
+		try (final var client = builder.build()) {
+			final var tokens = List.of(token(Instant.now().plus(1, ChronoUnit.HOURS)));
+
+			assertThatThrownBy(() -> client.verifyAuthTokens(tokens))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessage("broken clock");
+
+			assertThatThrownBy(() -> client.verifyAuthTokens(tokens, executor))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessage("broken clock");
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void executorAndVirtualThreads() {
+		assertThatThrownBy(() -> builder().executor(Runnable::run).virtualThreads(true).build())
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void virtualThreadsUnsupported() {
+		assumeFalse(VirtualThreads.isSupported());
+
+		assertThatThrownBy(() -> builder().virtualThreads(true).build())
+			.isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	void verifyAuthTokenCached() {
+		try (final var client = builder().verifiedTokenCacheSize(10).build()) {
+			final var token = token(Instant.now().plus(1, ChronoUnit.HOURS));
+
+			assertThat(client.verifyAuthToken(token)).isSameAs(client.verifyAuthToken(token));
+			assertThat(client.getVerifiedTokenCacheStatistics()).isEqualTo(new TokenCacheStatistics(1, 1, 1));
+			assertThat(client.getRejectedTokenCacheStatistics()).isEqualTo(TokenCacheStatistics.EMPTY);
+		}
+	}
+
+	@Test
+	void verifyAuthTokenRejectedCached() {
+		try (final var client = builder().rejectedTokenCacheSize(10).build()) {
+			final var token = token(Instant.now().minus(1, ChronoUnit.HOURS));
+
+			final var first = catchThrowable(() -> client.verifyAuthToken(token));
+			final var second = catchThrowable(() -> client.verifyAuthToken(token));
+
+			assertThat(first).isInstanceOf(ExpiredJwtException.class);
+			assertThat(second).isSameAs(first);
+			assertThat(client.getRejectedTokenCacheStatistics()).isEqualTo(new TokenCacheStatistics(1, 1, 1));
+		}
+	}
+
+	@Test
+	void rejectedTokenCacheDuration() {
+		assertThatThrownBy(() -> builder().rejectedTokenCacheDuration(null).build())
+			.isInstanceOf(NullPointerException.class);
+
+		assertThatThrownBy(() -> builder().rejectedTokenCacheDuration(Duration.ZERO).build())
+			.isInstanceOf(IllegalArgumentException.class);
+
+		assertThatThrownBy(() -> builder().rejectedTokenCacheDuration(Duration.ofSeconds(-1)).build())
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void verifyAuthTokenFast() {
+		try (final var client = builder().fastTokenVerification(true).build()) {
+			final var jwt = client.verifyAuthToken(token(Instant.now().plus(1, ChronoUnit.HOURS)));
+
+			assertThat(jwt.getHeader().getAlgorithm()).isEqualTo("ES256");
+			assertThat(jwt.getPayload().getSubject()).isEqualTo("did:privy:hello");
+			assertThat(jwt.getPayload().getAudience()).containsExactly(APPLICATION_ID);
+			assertThat(jwt.getPayload().getExpiration()).isAfter(new Date());
+			assertThat(jwt.getPayload().get(Claims.ISSUER, String.class)).isEqualTo(PrivyClientImpl.ISSUER);
+		}
+	}
+
+	@Test
+	void verifyAuthTokenFastClaimTypes() {
+		final var token = Jwts.builder()
+			.issuer("privy.io")
+			.audience().add(APPLICATION_ID).and()
+			.subject("did:privy:hello")
+			.issuedAt(new Date())
+			.expiration(Date.from(Instant.now().plus(1, ChronoUnit.HOURS)))
+			.claim("small", 5)
+			.claim("medium", 300)
+			.claim("large", 5_000_000_000L)
+			.claim("text", "hello")
+			.claim("numericText", "1700000000000")
+			.claim("isoText", "2023-11-14T22:13:20Z")
+			.signWith(KEY_PAIR.getPrivate(), Jwts.SIG.ES256)
+			.compact();
+
+		final var claimNames = List.of(Claims.ISSUED_AT, Claims.EXPIRATION, "small", "medium", "large", "text", "numericText", "isoText");
+		final var types = List.<Class<?>>of(Long.class, Integer.class, Short.class, Byte.class, Date.class, String.class, Number.class);
+
+		try (
+			final var client = builder().build();
+			final var fastClient = builder().fastTokenVerification(true).build()
+		) {
+			final var claims = client.verifyAuthToken(token).getPayload();
+			final var fastClaims = fastClient.verifyAuthToken(token).getPayload();
+
+			for (final var claimName : claimNames) {
+				for (final var type : types) {
+					final var expected = catchThrowable(() -> claims.get(claimName, type));
+					final var actual = catchThrowable(() -> fastClaims.get(claimName, type));
+
+					if (expected == null) {
+						assertThat(fastClaims.get(claimName, type)).as("%s as %s", claimName, type).isEqualTo(claims.get(claimName, type));
+					} else {
+						assertThat(actual).as("%s as %s", claimName, type).isInstanceOf(expected.getClass());
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	void verifyAuthTokenFastWithCustomizer() {
+		try (
+			final var client = (PrivyClientImpl) builder()
+				.fastTokenVerification(true)
+				.jwtParserCustomizer((builder) -> builder.require("sid", "session"))
+				.build()
+		) {
+			assertThat(client.getEs256TokenVerifier()).isNull();
+
+			assertThatThrownBy(() -> client.verifyAuthToken(token(Instant.now().plus(1, ChronoUnit.HOURS))))
+				.isInstanceOf(MissingClaimException.class);
+		}
+	}
+
+	@Test
+	void verifyAuthTokenFastFallback() {
+		final var otherKey = Jwts.SIG.ES256.keyPair().build().getPublic();
+
+		try (final var client = builder().verificationKey(VerificationKeys.toPem(otherKey)).fastTokenVerification(true).build()) {
+			final var validToken = token(Instant.now().plus(1, ChronoUnit.HOURS));
+			final var expiredToken = token(Instant.now().minus(1, ChronoUnit.HOURS));
+
+			assertThatThrownBy(() -> client.verifyAuthToken(validToken))
+				.isInstanceOf(SignatureException.class);
+
+			assertThatThrownBy(() -> client.verifyAuthToken(expiredToken))
+				.isInstanceOf(SignatureException.class);
+
+			assertThatThrownBy(() -> client.verifyAuthToken("hello.world"))
+				.isInstanceOf(MalformedJwtException.class);
+		}
+	}
+
+	@Test
+	void verifyAuthTokenPrecheck() {
+		try (final var client = builder().tokenPrecheck(true).build()) {
+			final var expiredToken = token(Instant.now().minus(1, ChronoUnit.HOURS));
+			final var foreignToken = Jwts.builder()
+				.issuer("privy.io")
+				.audience().add("another-application").and()
+				.expiration(Date.from(Instant.now().plus(1, ChronoUnit.HOURS)))
+				.signWith(KEY_PAIR.getPrivate(), Jwts.SIG.ES256)
+				.compact();
+
+			assertThatThrownBy(() -> client.verifyAuthToken(expiredToken))
+				.isInstanceOf(ExpiredJwtException.class)
+				.isInstanceOf(RejectedTokenException.Expired.class);
+
+			assertThatThrownBy(() -> client.verifyAuthToken(foreignToken))
+				.isInstanceOf(IncorrectClaimException.class)
+				.isInstanceOf(RejectedTokenException.IncorrectClaim.class);
+
+			assertThat(client.verifyAuthToken(token(Instant.now().plus(1, ChronoUnit.HOURS)))).isNotNull();
+		}
+	}
+
+	@Test
+	void verifyAuthTokenPrecheckClockSkew() {
+		try (final var client = builder().tokenPrecheck(true).tokenPrecheckClockSkew(Duration.ofHours(2)).build()) {
+			final var expiredToken = token(Instant.now().minus(1, ChronoUnit.HOURS));
+
+			assertThatThrownBy(() -> client.verifyAuthToken(expiredToken))
+				.isInstanceOf(ExpiredJwtException.class)
+				.isNotInstanceOf(RejectedTokenException.class);
+		}
+	}
+
+	static String idToken(String linkedAccounts, String customMetadata) {
+		return Jwts.builder()
+			.issuer("privy.io")
+			.audience().add(APPLICATION_ID).and()
+			.subject("did:privy:hello")
+			.claim("cr", "1700000000")
+			.claim("linked_accounts", linkedAccounts)
+			.claim("custom_metadata", customMetadata)
+			.expiration(Date.from(Instant.now().plus(1, ChronoUnit.HOURS)))
+			.signWith(KEY_PAIR.getPrivate(), Jwts.SIG.ES256)
+			.compact();
+	}
+
+	@Test
+	void getUserFromIdToken() {
+		try (final var client = builder().build()) {
+			final var user = client.getUserFromIdToken(idToken("[{\"type\":\"email\",\"address\":\"hello@example.com\"}]", "{\"plan\":\"pro\"}"));
+
+			assertThat(user.getId()).isEqualTo("did:privy:hello");
+			assertThat(user.getEmail()).map(LinkedAccount.Email::getAddress).contains("hello@example.com");
+			assertThat(user.getCustomMetadata().getString("plan")).contains("pro");
+		}
+	}
+
+	@Test
+	void getUserFromIdTokenMalformed() {
+		try (final var client = builder().build()) {
+			final var user = client.getUserFromIdToken(idToken("[{", "{"));
+
+			assertThat(user.getId()).isEqualTo("did:privy:hello");
+			assertThatThrownBy(user::getLinkedAccounts).isInstanceOf(MalformedJwtException.class);
+			assertThatThrownBy(user::getCustomMetadata).isInstanceOf(MalformedJwtException.class);
+
+			user.setLinkedAccounts(List.of());
+			assertThat(user.getLinkedAccounts()).isEmpty();
+		}
+	}
+
+	@Test
+	void getUserIdFromIdToken() {
+		try (final var client = builder().build()) {
+			assertThat(client.getUserIdFromIdToken(idToken("[{", null))).isEqualTo("did:privy:hello");
+		}
+	}
+
+	@Test
+	void getVerificationKey() {
+		try (final var client = builder().build()) {
+			assertThat(client.getVerificationKey()).isEqualTo(KEY_PAIR.getPublic());
+		}
+	}
+
+	@Test
+	void findUserByIdRetried() throws IOException {
+		final var calls = new AtomicInteger();
+
+		final var server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/api/v1/users/", (exchange) -> {
+			final var limited = calls.incrementAndGet() == 1;
+			final var body = (limited ? "{\"error\":\"Too many requests\"}" : "{\"id\":\"did:privy:hello\"}").getBytes(StandardCharsets.UTF_8);
+
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(limited ? 429 : 200, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		server.start();
+
+		try (
+			final var client = builder()
+				.apiUrl("http://localhost:" + server.getAddress().getPort())
+				.retryPolicy(RetryPolicy.DEFAULT.withInitialBackoff(Duration.ZERO))
+				.build()
+		) {
+			assertThat(client.findUserById("did:privy:hello")).isPresent();
+			assertThat(calls).hasValue(2);
+		} finally {
+			server.stop(0);
+		}
+	}
+
+	@Test
+	void findUserByIdRateLimited() throws IOException {
+		final var calls = new AtomicInteger();
+
+		final var server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/api/v1/users/", (exchange) -> {
+			calls.incrementAndGet();
+			final var body = "{\"id\":\"did:privy:hello\"}".getBytes(StandardCharsets.UTF_8);
+
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		server.start();
+
+		try (
+			final var client = builder()
+				.apiUrl("http://localhost:" + server.getAddress().getPort())
+				.rateLimit(EndpointGroup.LOOKUP, new RateLimit(0.01, 1, Duration.ZERO))
+				.build()
+		) {
+			assertThat(client.findUserById("did:privy:hello")).isPresent();
+
+			assertThatThrownBy(() -> client.findUserById("did:privy:hello"))
+				.isInstanceOf(PrivyClientException.RateLimited.class);
+
+			assertThat(calls).hasValue(1);
+		} finally {
+			server.stop(0);
+		}
+	}
+
+	@Test
+	void findUserByIdCircuitOpen() throws IOException {
+		final var calls = new AtomicInteger();
+
+		final var server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/api/v1/users/", (exchange) -> {
+			calls.incrementAndGet();
+			final var body = "{\"error\":\"Internal error\"}".getBytes(StandardCharsets.UTF_8);
+
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(500, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		server.start();
+
+		try (
+			final var client = builder()
+				.apiUrl("http://localhost:" + server.getAddress().getPort())
+				.retryPolicy(RetryPolicy.NONE)
+				.circuitBreakerPolicy(new CircuitBreakerPolicy(0.5, 0.5, Duration.ofSeconds(5), 2, 2, Duration.ofSeconds(30), 1))
+				.build()
+		) {
+			assertThatThrownBy(() -> client.findUserById("did:privy:hello")).isInstanceOf(PrivyClientException.class);
+			assertThatThrownBy(() -> client.findUserById("did:privy:hello")).isInstanceOf(PrivyClientException.class);
+			assertThat(client.getCircuitBreakerState()).isEqualTo(CircuitBreakerState.OPEN);
+
+			assertThatThrownBy(() -> client.findUserById("did:privy:hello"))
+				.isInstanceOf(PrivyClientException.CircuitOpen.class);
+
+			assertThat(calls).hasValue(2);
+		} finally {
+			server.stop(0);
+		}
+	}
+
+	@Test
+	void findUserByIdRateLimitedNotRecorded() throws IOException {
+		final var server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/api/v1/users/", (exchange) -> {
+			final var body = "{\"id\":\"did:privy:hello\"}".getBytes(StandardCharsets.UTF_8);
+
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		server.start();
+
+		try (
+			final var client = builder()
+				.apiUrl("http://localhost:" + server.getAddress().getPort())
+				.retryPolicy(RetryPolicy.NONE)
+				.rateLimit(EndpointGroup.LOOKUP, new RateLimit(0.001, 1, Duration.ZERO))
+				.circuitBreakerPolicy(new CircuitBreakerPolicy(0.5, 0.5, Duration.ofSeconds(5), 2, 2, Duration.ofSeconds(30), 1))
+				.maxConcurrentCalls(EndpointGroup.LOOKUP, 1)
+				.build()
+		) {
+			assertThat(client.findUserById("did:privy:hello")).isPresent();
+
+			assertThatThrownBy(() -> client.findUserById("did:privy:hello")).isInstanceOf(PrivyClientException.RateLimited.class);
+			assertThatThrownBy(() -> client.findUserById("did:privy:hello")).isInstanceOf(PrivyClientException.RateLimited.class);
+
+			assertThat(client.getCircuitBreakerState()).isEqualTo(CircuitBreakerState.CLOSED);
+		} finally {
+			server.stop(0);
+		}
+	}
+
+	@Test
+	void findUserByIdTimeout() throws IOException {
+		final var server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/api/v1/users/", (exchange) -> {
+			try {
+				Thread.sleep(2_000);
+			} catch (InterruptedException __) {}
+
+			exchange.close();
+		});
+		server.start();
+
+		try (
+			final var client = builder()
+				.apiUrl("http://localhost:" + server.getAddress().getPort())
+				.retryPolicy(RetryPolicy.NONE)
+				.timeouts(EndpointGroup.LOOKUP, Timeouts.DEFAULT.withReadTimeout(Duration.ofMillis(100)))
+				.build()
+		) {
+			final var start = System.nanoTime();
+
+			assertThatThrownBy(() -> client.findUserById("did:privy:hello"))
+				.hasRootCauseInstanceOf(HttpTimeoutException.class);
+
+			assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+		} finally {
+			server.stop(0);
+		}
+	}
+
+	@Test
+	void findUserByIdDeadline() throws IOException {
+		final var calls = new AtomicInteger();
+
+		final var server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/api/v1/users/", (exchange) -> {
+			calls.incrementAndGet();
+			final var body = "{\"error\":\"Too many requests\"}".getBytes(StandardCharsets.UTF_8);
+
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.getResponseHeaders().add("Retry-After", "1");
+			exchange.sendResponseHeaders(429, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		server.start();
+
+		try (
+			final var client = builder()
+				.apiUrl("http://localhost:" + server.getAddress().getPort())
+				.build()
+		) {
+			final var start = System.nanoTime();
+
+			assertThatThrownBy(() -> client.withDeadline(Duration.ofMillis(500)).findUserById("did:privy:hello"))
+				.isInstanceOf(PrivyClientException.DeadlineExceeded.class);
+
+			assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+			assertThat(calls).hasValue(1);
+
+			assertThatThrownBy(() -> client.withDeadline(Duration.ZERO).findUserById("did:privy:hello"))
+				.isInstanceOf(PrivyClientException.DeadlineExceeded.class);
+
+			assertThat(calls).hasValue(1);
+		} finally {
+			server.stop(0);
+		}
+	}
+
+	@Test
+	void findAllUsers() throws IOException {
+		final var server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/api/v1/users", (exchange) -> {
+			final var query = exchange.getRequestURI().getQuery();
+			final var body = (query.contains("cursor=second")
+				? "{\"data\":[{\"id\":\"did:privy:c\"}],\"next_cursor\":null}"
+				: "{\"data\":[{\"id\":\"did:privy:a\"},{\"id\":\"did:privy:b\"}],\"next_cursor\":\"second\"}").getBytes(StandardCharsets.UTF_8);
+
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		server.start();
+
+		try (
+			final var client = builder()
+				.apiUrl("http://localhost:" + server.getAddress().getPort())
+				.build();
+			final var users = client.findAllUsers()
+		) {
+			assertThat(users.map(User::getId)).containsExactly("did:privy:a", "did:privy:b", "did:privy:c");
+		} finally {
+			server.stop(0);
+		}
+	}
+
+	@Test
+	void findAllUsersPrefetched() throws IOException {
+		final var server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/api/v1/users", (exchange) -> {
+			final var query = exchange.getRequestURI().getQuery();
+			final var body = (query.contains("cursor=second")
+				? "{\"data\":[{\"id\":\"did:privy:c\"}],\"next_cursor\":null}"
+				: "{\"data\":[{\"id\":\"did:privy:a\"},{\"id\":\"did:privy:b\"}],\"next_cursor\":\"second\"}").getBytes(StandardCharsets.UTF_8);
+
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		server.start();
+
+		final var client = (PrivyClientImpl) builder()
+			.apiUrl("http://localhost:" + server.getAddress().getPort())
+			.pagePrefetchDepth(2)
+			.build();
+
+		try (final var users = client.findAllUsers()) {
+			assertThat(users.map(User::getId)).containsExactly("did:privy:a", "did:privy:b", "did:privy:c");
+		} finally {
+			client.close();
+			server.stop(0);
+		}
+
+		assertThat(client.getOwnedPageExecutor().isShutdown()).isTrue();
+	}
+
+	@Test
+	void findAllUsersParallel() throws IOException {
+		final var pageCount = 30;
+		final var pageSize = 2;
+
+		final var fetched = new AtomicInteger();
+		final var processed = new AtomicInteger();
+		final var maximumInFlight = new AtomicInteger();
+
+		final var server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/api/v1/users", (exchange) -> {
+			final var query = exchange.getRequestURI().getQuery();
+			final var page = query.contains("cursor=") ? Integer.parseInt(query.replaceAll(".*cursor=(\\d+).*", "$1")) : 0;
+
+			maximumInFlight.accumulateAndGet(fetched.incrementAndGet() - processed.get(), Math::max);
+
+			final var users = IntStream.range(0, pageSize)
+				.mapToObj((index) -> "{\"id\":\"did:privy:%d-%d\"}".formatted(page, index))
+				.toList();
+
+			final var nextCursor = page + 1 == pageCount ? "null" : "\"%d\"".formatted(page + 1);
+			final var body = "{\"data\":[%s],\"next_cursor\":%s}".formatted(String.join(",", users), nextCursor).getBytes(StandardCharsets.UTF_8);
+
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		server.start();
+
+		final var remaining = new ConcurrentHashMap<String, AtomicInteger>();
+
+		/* more threads than the common pool, to show that they are not what bounds the pages */
+		final var pool = new ForkJoinPool(8);
+
+		try (
+			final var client = builder()
+				.apiUrl("http://localhost:" + server.getAddress().getPort())
+				.build();
+			final var users = client.findAllUsers()
+		) {
+			pool.submit(() -> users.parallel().forEach((user) -> {
+				final var page = user.getId().substring(0, user.getId().indexOf('-'));
+
+				try {
+					Thread.sleep(20);
+				} catch (InterruptedException exception) {
+					Thread.currentThread().interrupt();
+				}
+
+				if (remaining.computeIfAbsent(page, (__) -> new AtomicInteger(pageSize)).decrementAndGet() == 0) {
+					processed.incrementAndGet();
+				}
+			})).join();
+
+			assertThat(processed).hasValue(pageCount);
+
+			/* the split pages, and the one being read */
+			assertThat(maximumInFlight.get()).isLessThanOrEqualTo(PageSpliterator.MAX_SPLIT_PAGES + 1);
+		} finally {
+			server.stop(0);
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void findAllUsersByPage() throws IOException {
+		final var server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/api/v1/users", (exchange) -> {
+			final var query = exchange.getRequestURI().getQuery();
+			final var body = (query.contains("cursor=second")
+				? "{\"data\":[{\"id\":\"did:privy:c\"}],\"next_cursor\":null}"
+				: "{\"data\":[{\"id\":\"did:privy:a\"},{\"id\":\"did:privy:b\"}],\"next_cursor\":\"second\"}").getBytes(StandardCharsets.UTF_8);
+
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		server.start();
+
+		try (
+			final var client = builder()
+				.apiUrl("http://localhost:" + server.getAddress().getPort())
+				.build();
+			final var pages = client.findAllUsersByPage()
+		) {
+			assertThat(pages.map((page) -> page.stream().map(User::getId).toList())).containsExactly(
+				List.of("did:privy:a", "did:privy:b"),
+				List.of("did:privy:c")
+			);
+		} finally {
+			server.stop(0);
+		}
+	}
+
+	@Test
+	void forEachUserParallel() throws IOException {
+		final var server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/api/v1/users", (exchange) -> {
+			final var query = exchange.getRequestURI().getQuery();
+			final var body = (query.contains("cursor=second")
+				? "{\"data\":[{\"id\":\"did:privy:c\"}],\"next_cursor\":null}"
+				: "{\"data\":[{\"id\":\"did:privy:a\"},{\"id\":\"did:privy:b\"}],\"next_cursor\":\"second\"}").getBytes(StandardCharsets.UTF_8);
+
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		server.start();
+
+		final var tasks = new AtomicInteger();
+		final var pool = Executors.newFixedThreadPool(2);
+
+		try (
+			final var client = builder()
+				.apiUrl("http://localhost:" + server.getAddress().getPort())
+				.executor((task) -> {
+					tasks.incrementAndGet();
+					pool.execute(task);
+				})
+				.build();
+		) {
+			final var ids = new CopyOnWriteArrayList<String>();
+			client.forEachUserParallel((user) -> ids.add(user.getId()), 2);
+
+			assertThat(ids).containsExactlyInAnyOrder("did:privy:a", "did:privy:b", "did:privy:c");
+			assertThat(tasks).hasValue(2);
+
+			assertThatThrownBy(() -> client.forEachUserParallel((user) -> {
+				throw new IllegalStateException("failed");
+			}, 2)).isInstanceOf(IllegalStateException.class);
+		} finally {
+			server.stop(0);
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void exportAllUsers(@TempDir Path directory) throws IOException {
+		final var server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/api/v1/users", (exchange) -> {
+			final var query = exchange.getRequestURI().getQuery();
+			final var body = (query.contains("cursor=second")
+				? "{\"data\":[{\"id\":\"did:privy:c\"}],\"next_cursor\":null}"
+				: "{\"data\":[{\"id\":\"did:privy:a\"},{\"id\":\"did:privy:b\"}],\"next_cursor\":\"second\"}").getBytes(StandardCharsets.UTF_8);
+
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		server.start();
+
+		final var checkpointFile = directory.resolve("cursor");
+		final var checkpoint = CursorCheckpoint.ofFile(checkpointFile);
+
+		try (
+			final var client = builder()
+				.apiUrl("http://localhost:" + server.getAddress().getPort())
+				.build();
+		) {
+			final var exported = new CopyOnWriteArrayList<String>();
+
+			assertThatThrownBy(() -> client.exportAllUsers(checkpoint, (page) -> {
+				if (!page.isLast()) {
+					page.users().forEach((user) -> exported.add(user.getId()));
+					return;
+				}
+
+				throw new IllegalStateException("stopped");
+			})).hasMessage("stopped");
+
+			assertThat(exported).containsExactly("did:privy:a", "did:privy:b");
+			assertThat(checkpoint.load()).isEqualTo("second");
+
+			client.exportAllUsers(checkpoint, (page) -> page.users().forEach((user) -> exported.add(user.getId())));
+
+			assertThat(exported).containsExactly("did:privy:a", "did:privy:b", "did:privy:c");
+			assertThat(checkpointFile).doesNotExist();
+		} finally {
+			server.stop(0);
+		}
+	}
+
+	@Test
+	void exportAllUsersEndingWithEmptyPage(@TempDir Path directory) throws IOException {
+		final var server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/api/v1/users", (exchange) -> {
+			final var query = exchange.getRequestURI().getQuery();
+			final var body = (query.contains("cursor=second")
+				? "{\"data\":[],\"next_cursor\":null}"
+				: "{\"data\":[{\"id\":\"did:privy:a\"}],\"next_cursor\":\"second\"}").getBytes(StandardCharsets.UTF_8);
+
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		server.start();
+
+		final var checkpointFile = directory.resolve("cursor");
+		final var checkpoint = CursorCheckpoint.ofFile(checkpointFile);
+
+		try (
+			final var client = builder()
+				.apiUrl("http://localhost:" + server.getAddress().getPort())
+				.build();
+		) {
+			final var exported = new CopyOnWriteArrayList<String>();
+
+			client.exportAllUsers(checkpoint, (page) -> page.users().forEach((user) -> exported.add(user.getId())));
+
+			assertThat(exported).containsExactly("did:privy:a");
+			assertThat(checkpointFile).doesNotExist();
+		} finally {
+			server.stop(0);
+		}
+	}
+
+	@Test
+	void findUserByIdCompressed() throws IOException {
+		final var acceptEncodings = new CopyOnWriteArrayList<String>();
+
+		final var server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/api/v1/users/", (exchange) -> {
+			final var acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+			acceptEncodings.add(String.valueOf(acceptEncoding));
+
+			var body = "{\"id\":\"did:privy:hello\"}".getBytes(StandardCharsets.UTF_8);
+			if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+				final var output = new ByteArrayOutputStream();
+				try (final var gzip = new GZIPOutputStream(output)) {
+					gzip.write(body);
+				}
+
+				body = output.toByteArray();
+				exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+			}
+
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		server.start();
+
+		try (
+			final var client = builder()
+				.apiUrl("http://localhost:" + server.getAddress().getPort())
+				.compression(true)
+				.build();
+			final var uncompressedClient = builder()
+				.apiUrl("http://localhost:" + server.getAddress().getPort())
+				.build()
+		) {
+			assertThat(client.findUserById("did:privy:hello")).map(User::getId).hasValue("did:privy:hello");
+			assertThat(uncompressedClient.findUserById("did:privy:hello")).map(User::getId).hasValue("did:privy:hello");
+
+			assertThat(acceptEncodings).containsExactly("gzip, deflate", "null");
+		} finally {
+			server.stop(0);
+		}
+	}
+
+	@Test
+	void getVerificationKeyFromServer() throws IOException {
+		final var server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/api/v1/apps/" + APPLICATION_ID, (exchange) -> {
+			final var body = PrivyMapper.INSTANCE.writeValueAsBytes(Map.of(
+				"id", APPLICATION_ID,
+				"verification_key", VerificationKeys.toPem(KEY_PAIR.getPublic())
+			));
+
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		server.start();
+
+		try (
+			final var client = PrivyClient.builder()
+				.apiUrl("http://localhost:" + server.getAddress().getPort())
+				.applicationId(APPLICATION_ID)
+				.applicationSecret("secret")
+				.httpClient(HttpClients.newHttpClient())
+				.build()
+		) {
+			assertThat(client.getVerificationKey()).isEqualTo(KEY_PAIR.getPublic());
+			assertThat(client.verifyAuthToken(token(Instant.now().plus(1, ChronoUnit.HOURS)))).isNotNull();
+		} finally {
+			server.stop(0);
+		}
+	}
+
+
+	@Test
+	void verifyAuthTokenAfterKeyRotation() throws IOException {
+		final var fetches = new AtomicInteger();
+		final var servedKey = new AtomicReference<PublicKey>(KEY_PAIR.getPublic());
+
+		final var server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/api/v1/apps/" + APPLICATION_ID, (exchange) -> {
+			fetches.incrementAndGet();
+
+			final var body = PrivyMapper.INSTANCE.writeValueAsBytes(Map.of(
+				"id", APPLICATION_ID,
+				"verification_key", VerificationKeys.toPem(servedKey.get())
+			));
+
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		server.start();
+
+		final var rotatedKeyPair = Jwts.SIG.ES256.keyPair().build();
+		final var unknownKeyPair = Jwts.SIG.ES256.keyPair().build();
+		final var expiration = Instant.now().plus(1, ChronoUnit.HOURS);
+
+		try (
+			final var client = PrivyClient.builder()
+				.apiUrl("http://localhost:" + server.getAddress().getPort())
+				.applicationId(APPLICATION_ID)
+				.applicationSecret("secret")
+				.verificationKeyRefetchInterval(Duration.ofHours(1))
+				.build()
+		) {
+			assertThat(client.verifyAuthToken(token(expiration))).isNotNull();
+			assertThat(fetches).hasValue(1);
+
+			servedKey.set(rotatedKeyPair.getPublic());
+
+			/* signed by the new key, fetched once the current one has failed */
+			assertThat(client.verifyAuthToken(token(expiration, rotatedKeyPair.getPrivate()))).isNotNull();
+			assertThat(fetches).hasValue(2);
+			assertThat(client.getVerificationKey()).isEqualTo(rotatedKeyPair.getPublic());
+
+			/* signed by the old key, still known */
+			assertThat(client.verifyAuthToken(token(expiration.plusSeconds(1)))).isNotNull();
+			assertThat(fetches).hasValue(2);
+
+			/* signed by an unknown key, not fetched again before the refetch interval */
+			assertThatThrownBy(() -> client.verifyAuthToken(token(expiration, unknownKeyPair.getPrivate())))
+				.isInstanceOf(SignatureException.class);
+			assertThat(fetches).hasValue(2);
+		} finally {
+			server.stop(0);
+		}
+	}
+
+
+	@Test
+	void verificationKeyPersistenceFile(@TempDir Path directory) throws IOException {
+		final var fetches = new AtomicInteger();
+
+		final var server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/api/v1/apps/" + APPLICATION_ID, (exchange) -> {
+			fetches.incrementAndGet();
+
+			final var body = PrivyMapper.INSTANCE.writeValueAsBytes(Map.of(
+				"id", APPLICATION_ID,
+				"verification_key", VerificationKeys.toPem(KEY_PAIR.getPublic())
+			));
+
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		server.start();
+
+		final var persistenceFile = directory.resolve("verification-key.pem");
+		final var builder = PrivyClient.builder()
+			.apiUrl("http://localhost:" + server.getAddress().getPort())
+			.applicationId(APPLICATION_ID)
+			.applicationSecret("secret")
+			.verificationKeyPersistenceFile(persistenceFile);
+
+		try {
+			try (final var client = builder.build()) {
+				assertThat(persistenceFile).doesNotExist();
+
+				assertThat(client.getVerificationKey()).isEqualTo(KEY_PAIR.getPublic());
+				assertThat(fetches).hasValue(1);
+				assertThat(VerificationKeys.read(persistenceFile)).isEqualTo(KEY_PAIR.getPublic());
+			}
+
+			try (final var client = builder.build()) {
+				assertThat(client.verifyAuthToken(token(Instant.now().plus(1, ChronoUnit.HOURS)))).isNotNull();
+				assertThat(fetches).hasValue(1);
+			}
+		} finally {
+			server.stop(0);
+		}
+	}
+
+	@Test
+	void verificationKeyPersistenceFileWithoutCache(@TempDir Path directory) {
+		final var builder = builder()
+			.verificationKey(null)
+			.cacheVerificationKey(false)
+			.verificationKeyPersistenceFile(directory.resolve("verification-key.pem"));
+
+		assertThatThrownBy(builder::build)
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("verificationKeyPersistenceFile requires cacheVerificationKey");
+	}
+
+}
@@ -0,0 +1,124 @@
+package dev.caceresenzo.privy.client.impl.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import lombok.SneakyThrows;
+
+class ExpiringCacheTest {
+
+	@Test
+	void get() {
+		final var cache = new ExpiringCache<String, String>(10);
+		cache.put("hello", "world", Long.MAX_VALUE);
+
+		assertThat(cache.get("hello")).isEqualTo("world");
+		assertThat(cache.get("world")).isNull();
+	}
+
+	@Test
+	void expiration() {
+		final var now = new AtomicLong(1000);
+		final var cache = new ExpiringCache<String, String>(10, now::get);
+
+		cache.put("hello", "world", 2000);
+		assertThat(cache.get("hello")).isEqualTo("world");
+
+		now.set(2000);
+		assertThat(cache.get("hello")).isNull();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void timeToLive() {
+		final var now = new AtomicLong(1000);
+		final var cache = new ExpiringCache<String, String>(10, now::get);
+
+		cache.put("hello", "world", Duration.ofSeconds(1));
+		assertThat(cache.get("hello")).isEqualTo("world");
+
+		now.set(2000);
+		assertThat(cache.get("hello")).isNull();
+	}
+
+	@Test
+	void statistics() {
+		final var cache = new ExpiringCache<String, String>(10);
+		cache.put("hello", "world", Long.MAX_VALUE);
+
+		cache.get("hello");
+		cache.get("hello");
+		cache.get("world");
+
+		assertThat(cache.hitCount()).isEqualTo(2);
+		assertThat(cache.missCount()).isEqualTo(1);
+	}
+
+	@Test
+	void alreadyExpired() {
+		final var cache = new ExpiringCache<String, String>(10, () -> 1000);
+		cache.put("hello", "world", 500);
+
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void maximumSize() {
+		final var cache = new ExpiringCache<Integer, Integer>(5);
+
+		for (var index = 0; index < 20; ++index) {
+			cache.put(index, index, Long.MAX_VALUE);
+		}
+
+		assertThat(cache.size()).isLessThanOrEqualTo(5);
+	}
+
+	@Test
+	@SneakyThrows
+	void maximumSizeConcurrent() {
+		final var cache = new ExpiringCache<Integer, Integer>(50);
+		final var executor = Executors.newFixedThreadPool(8);
+
+		try {
+			final var tasks = IntStream.range(0, 8)
+				.mapToObj((thread) -> Executors.callable(() -> {
+					for (var index = 0; index < 10_000; ++index) {
+						cache.put(thread * 10_000 + index, index, Long.MAX_VALUE);
+					}
+				}))
+				.toList();
+
+			for (final var future : executor.invokeAll(tasks)) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		assertThat(cache.size()).isLessThanOrEqualTo(50);
+	}
+
+	@Test
+	void invalidMaximumSize() {
+		assertThatThrownBy(() -> new ExpiringCache<>(0))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void tokenDigest() {
+		assertThat(TokenDigest.of("a.b.c"))
+			.isEqualTo(TokenDigest.of("a.b.c"))
+			.isNotEqualTo(TokenDigest.of("a.b.d"));
+
+		assertThat(TokenDigest.of("a.b.é"))
+			.isNotEqualTo(TokenDigest.of("a.b.?"));
+	}
+
+}
@@ -0,0 +1,28 @@
+package dev.caceresenzo.privy.client.impl.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AtomicFilesTest {
+
+	@Test
+	void writeString(@TempDir Path directory) throws IOException {
+		final var file = directory.resolve("file.txt");
+
+		AtomicFiles.writeString(file, "hello", StandardCharsets.UTF_8);
+		assertThat(file).hasContent("hello");
+
+		AtomicFiles.writeString(file, "world", StandardCharsets.UTF_8);
+		assertThat(file).hasContent("world");
+
+		assertThat(directory).isDirectoryContaining("glob:**/file.txt")
+			.isDirectoryNotContaining("glob:**/file.txt.tmp");
+	}
+
+}
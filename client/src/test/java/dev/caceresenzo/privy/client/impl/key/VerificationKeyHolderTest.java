@@ -0,0 +1,138 @@
+package dev.caceresenzo.privy.client.impl.key;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Jwts;
+
+class VerificationKeyHolderTest {
+
+	private static final PublicKey FIRST_KEY = Jwts.SIG.ES256.keyPair().build().getPublic();
+	private static final PublicKey SECOND_KEY = Jwts.SIG.ES256.keyPair().build().getPublic();
+
+	@Test
+	void singleFlight() throws InterruptedException {
+		final var calls = new AtomicInteger();
+		final var release = new CountDownLatch(1);
+
+		try (final var holder = new VerificationKeyHolder(() -> {
+			calls.incrementAndGet();
+
+			try {
+				release.await();
+			} catch (InterruptedException exception) {
+				Thread.currentThread().interrupt();
+			}
+
+			return FIRST_KEY;
+		}, null, Duration.ZERO)) {
+			final var threads = new ArrayList<Thread>();
+			for (var index = 0; index < 8; ++index) {
+				final var thread = new Thread(() -> assertThat(holder.get()).isSameAs(FIRST_KEY));
+				thread.start();
+
+				threads.add(thread);
+			}
+
+			Thread.sleep(100);
+			release.countDown();
+
+			for (final var thread : threads) {
+				thread.join();
+			}
+
+			assertThat(holder.get()).isSameAs(FIRST_KEY);
+			assertThat(calls).hasValue(1);
+		}
+	}
+
+	@Test
+	void failedLoad() {
+		try (final var holder = new VerificationKeyHolder(() -> {
+			throw new IllegalStateException("unavailable");
+		}, null, Duration.ZERO)) {
+			assertThatThrownBy(holder::get)
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessage("unavailable");
+
+			assertThat(holder.getIfLoaded()).isNull();
+		}
+	}
+
+	@Test
+	void staleWhileRevalidate() throws InterruptedException {
+		final var calls = new AtomicInteger();
+
+		try (final var holder = new VerificationKeyHolder(() -> calls.getAndIncrement() == 0 ? FIRST_KEY : SECOND_KEY, Duration.ofMillis(50), Duration.ZERO)) {
+			assertThat(holder.get()).isSameAs(FIRST_KEY);
+
+			Thread.sleep(200);
+
+			assertThat(holder.get()).isSameAs(SECOND_KEY);
+		}
+	}
+
+	@Test
+	void refreshExecutor() throws InterruptedException {
+		final var threadNames = new CopyOnWriteArrayList<String>();
+		final var executor = Executors.newSingleThreadExecutor((runnable) -> new Thread(runnable, "custom-refresh"));
+
+		try (final var holder = new VerificationKeyHolder(() -> {
+			threadNames.add(Thread.currentThread().getName());
+
+			return FIRST_KEY;
+		}, Duration.ofMillis(50), Duration.ZERO, executor)) {
+			holder.get();
+
+			Thread.sleep(200);
+		} finally {
+			executor.shutdown();
+		}
+
+		assertThat(threadNames).hasSizeGreaterThan(1);
+		assertThat(threadNames.subList(1, threadNames.size())).containsOnly("custom-refresh");
+	}
+
+	@Test
+	void refetch() {
+		final var calls = new AtomicInteger();
+
+		try (final var holder = new VerificationKeyHolder(() -> calls.getAndIncrement() == 0 ? FIRST_KEY : SECOND_KEY, null, Duration.ofHours(1))) {
+			assertThat(holder.get()).isSameAs(FIRST_KEY);
+
+			assertThat(holder.refetch()).isTrue();
+			assertThat(holder.getAll()).containsExactly(SECOND_KEY, FIRST_KEY);
+
+			assertThat(holder.refetch()).isFalse();
+			assertThat(calls).hasValue(2);
+		}
+	}
+
+	@Test
+	void maximumKeys() {
+		try (final var holder = new VerificationKeyHolder(() -> FIRST_KEY, null, Duration.ZERO)) {
+			for (var index = 0; index < VerificationKeyHolder.MAXIMUM_KEYS * 2; ++index) {
+				holder.set(Jwts.SIG.ES256.keyPair().build().getPublic());
+			}
+
+			holder.set(FIRST_KEY);
+			holder.set(FIRST_KEY);
+
+			assertThat(holder.getAll())
+				.hasSize(VerificationKeyHolder.MAXIMUM_KEYS)
+				.startsWith(FIRST_KEY)
+				.doesNotHaveDuplicates();
+		}
+	}
+
+}
@@ -0,0 +1,52 @@
+package dev.caceresenzo.privy.client.impl.key;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.jsonwebtoken.Jwts;
+
+class VerificationKeysTest {
+
+	@Test
+	void parse() {
+		final var key = Jwts.SIG.ES256.keyPair().build().getPublic();
+		final var pem = VerificationKeys.toPem(key);
+
+		assertThat(pem)
+			.startsWith(VerificationKeys.PEM_HEADER)
+			.endsWith(VerificationKeys.PEM_FOOTER + "\n");
+
+		assertThat(VerificationKeys.parse(pem)).isEqualTo(key);
+	}
+
+	@Test
+	void parseInvalid() {
+		assertThatThrownBy(() -> VerificationKeys.parse("aGVsbG8="))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void writeAndRead(@TempDir Path directory) throws IOException {
+		final var key = Jwts.SIG.ES256.keyPair().build().getPublic();
+		final var path = directory.resolve("verification-key.pem");
+
+		VerificationKeys.write(path, key);
+
+		assertThat(VerificationKeys.read(path)).isEqualTo(key);
+		assertThat(Files.list(directory)).containsExactly(path);
+	}
+
+	@Test
+	void readMissingResource() {
+		assertThatThrownBy(() -> VerificationKeys.readResource("missing.pem"))
+			.isInstanceOf(IOException.class);
+	}
+
+}
@@ -0,0 +1,177 @@
+package dev.caceresenzo.privy.client.impl.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+class PagePublisherTest {
+
+	static final Map<String, Page<Integer>> PAGES = Map.of(
+		"2", new Page<>(List.of(3, 4), "3"),
+		"3", new Page<>(List.of(5), null)
+	);
+
+	static final Page<Integer> FIRST_PAGE = new Page<>(List.of(1, 2), "2");
+
+	final AtomicInteger fetches = new AtomicInteger();
+
+	/* runs on the calling thread, so that the signals are synchronous */
+	final PagePublisher<Integer> publisher = new PagePublisher<>(
+		() -> {
+			fetches.incrementAndGet();
+			return FIRST_PAGE.reader();
+		},
+		(cursor) -> {
+			fetches.incrementAndGet();
+			return PAGES.get(cursor).reader();
+		},
+		Runnable::run
+	);
+
+	@Test
+	void request() {
+		final var subscriber = new TestSubscriber();
+		publisher.subscribe(subscriber);
+		assertThat(fetches).hasValue(0);
+
+		subscriber.subscription.get().request(2);
+		assertThat(subscriber.elements).containsExactly(1, 2);
+		assertThat(fetches).hasValue(1);
+
+		subscriber.subscription.get().request(1);
+		assertThat(subscriber.elements).containsExactly(1, 2, 3);
+		assertThat(fetches).hasValue(2);
+		assertThat(subscriber.completed).isFalse();
+
+		subscriber.subscription.get().request(Long.MAX_VALUE);
+		assertThat(subscriber.elements).containsExactly(1, 2, 3, 4, 5);
+		assertThat(subscriber.completed).isTrue();
+	}
+
+	@Test
+	void pageReadFully() {
+		final var closed = new AtomicBoolean();
+		final var reading = new PagePublisher<Integer>(
+			() -> new PageReader<>() {
+
+				final PageReader<Integer> delegate = FIRST_PAGE.reader();
+
+				@Override
+				public boolean hasNext() {
+					return delegate.hasNext();
+				}
+
+				@Override
+				public Integer next() {
+					return delegate.next();
+				}
+
+				@Override
+				public String nextCursor() {
+					return null;
+				}
+
+				@Override
+				public void close() {
+					closed.set(true);
+				}
+
+			},
+			(cursor) -> PAGES.get(cursor).reader(),
+			Runnable::run
+		);
+
+		final var subscriber = new TestSubscriber();
+		reading.subscribe(subscriber);
+
+		subscriber.subscription.get().request(1);
+		assertThat(subscriber.elements).containsExactly(1);
+		assertThat(closed).isTrue();
+
+		subscriber.subscription.get().request(1);
+		assertThat(subscriber.elements).containsExactly(1, 2);
+		assertThat(subscriber.completed).isTrue();
+	}
+
+	@Test
+	void cancel() {
+		final var subscriber = new TestSubscriber();
+		publisher.subscribe(subscriber);
+
+		subscriber.subscription.get().request(1);
+		subscriber.subscription.get().cancel();
+		subscriber.subscription.get().request(10);
+
+		assertThat(subscriber.elements).containsExactly(1);
+		assertThat(subscriber.completed).isFalse();
+		assertThat(fetches).hasValue(1);
+	}
+
+	@Test
+	void invalidRequest() {
+		final var subscriber = new TestSubscriber();
+		publisher.subscribe(subscriber);
+
+		subscriber.subscription.get().request(0);
+
+		assertThat(subscriber.error.get()).isInstanceOf(IllegalArgumentException.class);
+		assertThat(fetches).hasValue(0);
+	}
+
+	@Test
+	void failure() {
+		final var failing = new PagePublisher<Integer>(
+			FIRST_PAGE::reader,
+			(cursor) -> {
+				throw new IllegalStateException("failed");
+			},
+			Runnable::run
+		);
+
+		final var subscriber = new TestSubscriber();
+		failing.subscribe(subscriber);
+
+		subscriber.subscription.get().request(Long.MAX_VALUE);
+
+		assertThat(subscriber.elements).containsExactly(1, 2);
+		assertThat(subscriber.error.get()).hasMessage("failed");
+	}
+
+	static class TestSubscriber implements Flow.Subscriber<Integer> {
+
+		final AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+		final List<Integer> elements = new CopyOnWriteArrayList<>();
+		final AtomicReference<Throwable> error = new AtomicReference<>();
+		volatile boolean completed;
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription.set(subscription);
+		}
+
+		@Override
+		public void onNext(Integer item) {
+			elements.add(item);
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			error.set(throwable);
+		}
+
+		@Override
+		public void onComplete() {
+			completed = true;
+		}
+
+	}
+
+}
@@ -0,0 +1,155 @@
+package dev.caceresenzo.privy.client.impl.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PageSpliteratorTest {
+
+	static final Map<String, Page<Integer>> PAGES = Map.of(
+		"2", new Page<>(List.of(3, 4), "3"),
+		"3", new Page<>(List.of(5), null)
+	);
+
+	static final Page<Integer> FIRST_PAGE = new Page<>(List.of(1, 2), "2");
+
+	ExecutorService executor;
+
+	@BeforeEach
+	void setUp() {
+		executor = Executors.newSingleThreadExecutor();
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void sequential() {
+		final var fetches = new AtomicInteger();
+		final Function<String, PageReader<Integer>> getter = (cursor) -> {
+			fetches.incrementAndGet();
+			return PAGES.get(cursor).reader();
+		};
+
+		try (final var stream = new PageSpliterator<>(FIRST_PAGE.reader(), getter).asStream()) {
+			final var iterator = stream.iterator();
+
+			assertThat(iterator.next()).isEqualTo(1);
+			assertThat(fetches).hasValue(0);
+
+			assertThat(iterator.next()).isEqualTo(2);
+			assertThat(iterator.next()).isEqualTo(3);
+			assertThat(fetches).hasValue(1);
+		}
+	}
+
+	@Test
+	void split() {
+		final Function<String, PageReader<Integer>> getter = (cursor) -> PAGES.get(cursor).reader();
+		final var spliterator = new PageSpliterator<>(FIRST_PAGE.reader(), getter);
+
+		final var elements = new ArrayList<Integer>();
+		assertThat(spliterator.tryAdvance(elements::add)).isTrue();
+
+		final var rest = spliterator.trySplit();
+		assertThat(rest.estimateSize()).isEqualTo(1);
+		rest.forEachRemaining(elements::add);
+
+		final var secondPage = spliterator.trySplit();
+		assertThat(secondPage.estimateSize()).isEqualTo(2);
+		secondPage.forEachRemaining(elements::add);
+
+		spliterator.forEachRemaining(elements::add);
+		assertThat(spliterator.trySplit()).isNull();
+
+		assertThat(elements).containsExactly(1, 2, 3, 4, 5);
+	}
+
+	@Test
+	void parallel() {
+		final Function<String, PageReader<Integer>> getter = (cursor) -> PAGES.get(cursor).reader();
+
+		try (final var stream = new PageSpliterator<>(FIRST_PAGE.reader(), getter).asStream()) {
+			assertThat(stream.parallel().map((element) -> element * 2)).containsExactly(2, 4, 6, 8, 10);
+		}
+	}
+
+	@Test
+	void prefetch() throws InterruptedException {
+		final var fetched = new CountDownLatch(2);
+		final Function<String, PageReader<Integer>> getter = (cursor) -> {
+			fetched.countDown();
+			return PAGES.get(cursor).reader();
+		};
+
+		try (final var stream = new PageSpliterator<>(FIRST_PAGE.reader(), getter, executor, 2).asStream()) {
+			final var iterator = stream.iterator();
+
+			assertThat(iterator.next()).isEqualTo(1);
+			assertThat(fetched.await(5, TimeUnit.SECONDS)).isTrue();
+
+			assertThat(iterator).toIterable().containsExactly(2, 3, 4, 5);
+		}
+	}
+
+	@Test
+	void prefetchAll() {
+		final Function<String, PageReader<Integer>> getter = (cursor) -> PAGES.get(cursor).reader();
+
+		try (final var stream = new PageSpliterator<>(FIRST_PAGE.reader(), getter, executor, 1).asStream()) {
+			assertThat(stream).containsExactly(1, 2, 3, 4, 5);
+		}
+	}
+
+	@Test
+	void prefetchFailure() {
+		final Function<String, PageReader<Integer>> getter = (cursor) -> {
+			throw new IllegalStateException("failed");
+		};
+
+		try (final var stream = new PageSpliterator<>(FIRST_PAGE.reader(), getter, executor, 2).asStream()) {
+			assertThatThrownBy(() -> stream.toList())
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessage("failed");
+		}
+	}
+
+	@Test
+	void closeCancelsFetch() throws InterruptedException {
+		final var started = new CountDownLatch(1);
+		final var interrupted = new CountDownLatch(1);
+		final Function<String, PageReader<Integer>> getter = (cursor) -> {
+			started.countDown();
+
+			try {
+				Thread.sleep(Long.MAX_VALUE);
+			} catch (InterruptedException exception) {
+				interrupted.countDown();
+			}
+
+			throw new IllegalStateException("interrupted");
+		};
+
+		final var stream = new PageSpliterator<>(FIRST_PAGE.reader(), getter, executor, 2).asStream();
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		stream.close();
+		assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+}
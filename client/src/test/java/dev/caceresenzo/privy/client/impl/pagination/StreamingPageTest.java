@@ -0,0 +1,81 @@
+package dev.caceresenzo.privy.client.impl.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import dev.caceresenzo.privy.model.User;
+import dev.caceresenzo.privy.util.PrivyMapper;
+
+class StreamingPageTest {
+
+	static StreamingPage<User> page(String json, AtomicBoolean closed) throws IOException {
+		final var mapper = PrivyMapper.INSTANCE;
+
+		return new StreamingPage<>(mapper.createParser(json), mapper.readerFor(User.class), () -> closed.set(true));
+	}
+
+	@Test
+	void read() throws IOException {
+		final var closed = new AtomicBoolean();
+		final var page = page("""
+			{"data":[{"id":"did:privy:a"},{"id":"did:privy:b"}],"next_cursor":"cursor"}""", closed);
+
+		assertThat(page.next().getId()).isEqualTo("did:privy:a");
+		assertThat(page.next().getId()).isEqualTo("did:privy:b");
+		assertThat(closed).isFalse();
+
+		assertThat(page.hasNext()).isFalse();
+		assertThat(page.nextCursor()).isEqualTo("cursor");
+		assertThat(closed).isTrue();
+	}
+
+	@Test
+	void cursorBeforeData() throws IOException {
+		final var closed = new AtomicBoolean();
+		final var page = page("""
+			{"next_cursor":null,"data":[{"id":"did:privy:a"}]}""", closed);
+
+		assertThat(page.next().getId()).isEqualTo("did:privy:a");
+		assertThat(page.hasNext()).isFalse();
+		assertThat(page.nextCursor()).isNull();
+	}
+
+	@Test
+	void nextCursorSkipsUnread() throws IOException {
+		final var closed = new AtomicBoolean();
+		final var page = page("""
+			{"data":[{"id":"did:privy:a","linked_accounts":[]},{"id":"did:privy:b"}],"other":{"a":[1]},"next_cursor":"cursor"}""", closed);
+
+		assertThat(page.nextCursor()).isEqualTo("cursor");
+		assertThat(page.hasNext()).isFalse();
+		assertThat(closed).isTrue();
+	}
+
+	@Test
+	void empty() throws IOException {
+		final var closed = new AtomicBoolean();
+		final var page = page("""
+			{"data":[],"next_cursor":null}""", closed);
+
+		assertThat(page.hasNext()).isFalse();
+		assertThat(closed).isTrue();
+	}
+
+	@Test
+	void malformed() throws IOException {
+		final var closed = new AtomicBoolean();
+		final var page = page("""
+			{"data":[{"id":"did:privy:a"},{"id":""", closed);
+
+		assertThat(page.next().getId()).isEqualTo("did:privy:a");
+		assertThatThrownBy(page::hasNext).isInstanceOf(UncheckedIOException.class);
+		assertThat(closed).isTrue();
+	}
+
+}
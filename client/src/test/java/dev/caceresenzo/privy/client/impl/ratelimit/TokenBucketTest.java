@@ -0,0 +1,68 @@
+package dev.caceresenzo.privy.client.impl.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+	static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	@Test
+	void burst() {
+		final var clock = new AtomicLong();
+		final var bucket = new TokenBucket(1, 3, clock::get);
+
+		assertThat(bucket.tryAcquire()).isTrue();
+		assertThat(bucket.tryAcquire()).isTrue();
+		assertThat(bucket.tryAcquire()).isTrue();
+		assertThat(bucket.tryAcquire()).isFalse();
+
+		clock.addAndGet(SECOND);
+		assertThat(bucket.tryAcquire()).isTrue();
+		assertThat(bucket.tryAcquire()).isFalse();
+	}
+
+	@Test
+	void reserve() {
+		final var clock = new AtomicLong();
+		final var bucket = new TokenBucket(2, 1, clock::get);
+
+		assertThat(bucket.reserve(Long.MAX_VALUE)).isZero();
+		assertThat(bucket.reserve(Long.MAX_VALUE)).isEqualTo(SECOND / 2);
+		assertThat(bucket.reserve(SECOND / 2)).isEqualTo(-1);
+		assertThat(bucket.reserve(SECOND)).isEqualTo(SECOND);
+	}
+
+	@Test
+	void tryAcquireTimeout() throws InterruptedException {
+		final var bucket = new TokenBucket(50, 1);
+
+		assertThat(bucket.tryAcquire(Duration.ZERO)).isTrue();
+		assertThat(bucket.tryAcquire(Duration.ofMillis(1))).isFalse();
+		assertThat(bucket.tryAcquire(Duration.ofSeconds(1))).isTrue();
+	}
+
+	@Test
+	void adapt() {
+		final var clock = new AtomicLong();
+		final var bucket = new TokenBucket(10, 1, clock::get);
+
+		bucket.adapt(10, 10 * SECOND);
+		assertThat(bucket.getInterval()).isEqualTo(Duration.ofSeconds(1));
+
+		bucket.adapt(1000, SECOND);
+		assertThat(bucket.getInterval()).isEqualTo(Duration.ofMillis(100));
+
+		bucket.adapt(0, 5 * SECOND);
+		assertThat(bucket.tryAcquire()).isFalse();
+
+		clock.addAndGet(5 * SECOND);
+		assertThat(bucket.tryAcquire()).isTrue();
+	}
+
+}
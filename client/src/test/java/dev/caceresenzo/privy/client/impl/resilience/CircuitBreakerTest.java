@@ -0,0 +1,118 @@
+package dev.caceresenzo.privy.client.impl.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import dev.caceresenzo.privy.client.CircuitBreakerPolicy;
+import dev.caceresenzo.privy.client.CircuitBreakerState;
+
+class CircuitBreakerTest {
+
+	static final CircuitBreakerPolicy POLICY = new CircuitBreakerPolicy(0.5, 0.5, Duration.ofSeconds(1), 4, 4, Duration.ofSeconds(10), 2);
+	static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+	static final long SLOW = TimeUnit.SECONDS.toNanos(2);
+
+	@Test
+	void opensOnFailures() {
+		final var circuitBreaker = new CircuitBreaker(POLICY, () -> 0);
+
+		circuitBreaker.record(false, FAST);
+		circuitBreaker.record(true, FAST);
+		circuitBreaker.record(false, FAST);
+		assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreakerState.CLOSED);
+
+		circuitBreaker.record(true, FAST);
+		assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreakerState.OPEN);
+		assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+	}
+
+	@Test
+	void opensOnSlowCalls() {
+		final var circuitBreaker = new CircuitBreaker(POLICY, () -> 0);
+
+		circuitBreaker.record(false, SLOW);
+		circuitBreaker.record(false, FAST);
+		circuitBreaker.record(false, SLOW);
+		circuitBreaker.record(false, FAST);
+
+		assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreakerState.OPEN);
+	}
+
+	@Test
+	void slidingWindow() {
+		final var circuitBreaker = new CircuitBreaker(POLICY, () -> 0);
+
+		circuitBreaker.record(true, FAST);
+		for (var index = 0; index < 10; ++index) {
+			circuitBreaker.record(false, FAST);
+		}
+
+		circuitBreaker.record(true, FAST);
+		assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreakerState.CLOSED);
+	}
+
+	@Test
+	void halfOpen() {
+		final var clock = new AtomicLong();
+		final var circuitBreaker = new CircuitBreaker(POLICY, clock::get);
+
+		for (var index = 0; index < 4; ++index) {
+			circuitBreaker.record(true, FAST);
+		}
+
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+		assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreakerState.HALF_OPEN);
+
+		assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+		assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+		assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+
+		circuitBreaker.record(false, FAST);
+		circuitBreaker.record(false, FAST);
+		assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreakerState.CLOSED);
+	}
+
+	@Test
+	void halfOpenFailing() {
+		final var clock = new AtomicLong();
+		final var circuitBreaker = new CircuitBreaker(POLICY, clock::get);
+
+		for (var index = 0; index < 4; ++index) {
+			circuitBreaker.record(true, FAST);
+		}
+
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+		assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+		assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+
+		circuitBreaker.record(true, FAST);
+		circuitBreaker.record(false, FAST);
+		assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreakerState.OPEN);
+	}
+
+	@Test
+	void releasePermission() {
+		final var clock = new AtomicLong();
+		final var circuitBreaker = new CircuitBreaker(POLICY, clock::get);
+
+		for (var index = 0; index < 4; ++index) {
+			circuitBreaker.record(true, FAST);
+		}
+
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+		assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+		assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+		assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+
+		circuitBreaker.releasePermission();
+		assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+		assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreakerState.HALF_OPEN);
+	}
+
+}
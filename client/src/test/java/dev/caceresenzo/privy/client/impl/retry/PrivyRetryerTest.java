@@ -0,0 +1,87 @@
+package dev.caceresenzo.privy.client.impl.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import dev.caceresenzo.privy.client.PrivyClientException;
+import dev.caceresenzo.privy.client.RetryPolicy;
+import dev.caceresenzo.privy.client.impl.FeignPrivyClient;
+import feign.Contract;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.RetryableException;
+
+class PrivyRetryerTest {
+
+	static final RetryPolicy POLICY = RetryPolicy.DEFAULT
+		.withInitialBackoff(Duration.ZERO)
+		.withMaxBackoff(Duration.ofMillis(10));
+
+	static RetryableException exception(String methodName, Long retryAfter) {
+		final var template = new RequestTemplate();
+		new Contract.Default().parseAndValidateMetadata(FeignPrivyClient.class).stream()
+			.filter((metadata) -> metadata.method().getName().equals(methodName))
+			.findFirst()
+			.ifPresent(template::methodMetadata);
+
+		final var request = Request.create(Request.HttpMethod.POST, "http://localhost/", Map.of(), null, null, template);
+
+		return new RetryableException(429, "rate limited", Request.HttpMethod.POST, new PrivyClientException.RateLimited("rate limited"), retryAfter, request);
+	}
+
+	static RetryableException exception(Long retryAfter) {
+		return exception("getUserByEmail", retryAfter);
+	}
+
+	@Test
+	void maxAttempts() {
+		final var retryer = new PrivyRetryer(POLICY.withMaxAttempts(3)).clone();
+
+		retryer.continueOrPropagate(exception(null));
+		retryer.continueOrPropagate(exception(null));
+
+		assertThatThrownBy(() -> retryer.continueOrPropagate(exception(null)))
+			.isInstanceOf(PrivyClientException.RateLimited.class);
+	}
+
+	@Test
+	void retryAfter() {
+		final var retryer = new PrivyRetryer(POLICY, new RetryBudget(0, 10), () -> 1000).clone();
+
+		retryer.continueOrPropagate(exception(1005L));
+
+		assertThatThrownBy(() -> retryer.continueOrPropagate(exception(61_000L)))
+			.isInstanceOf(PrivyClientException.RateLimited.class);
+	}
+
+	@Test
+	void budget() {
+		final var budget = new RetryBudget(0.5, 1);
+		final var root = new PrivyRetryer(POLICY, budget, System::currentTimeMillis);
+
+		root.clone().continueOrPropagate(exception(null));
+		assertThat(budget.available()).isZero();
+
+		assertThatThrownBy(() -> root.clone().continueOrPropagate(exception(null)))
+			.isInstanceOf(PrivyClientException.RateLimited.class);
+
+		root.clone();
+		assertThat(budget.available()).isEqualTo(1);
+	}
+
+	@Test
+	void notIdempotent() {
+		final var exception = exception("setCustomMetadata", null);
+
+		assertThatThrownBy(() -> new PrivyRetryer(POLICY).clone().continueOrPropagate(exception))
+			.isInstanceOf(PrivyClientException.RateLimited.class);
+
+		new PrivyRetryer(POLICY.withRetryNonIdempotent(true)).clone().continueOrPropagate(exception);
+	}
+
+}
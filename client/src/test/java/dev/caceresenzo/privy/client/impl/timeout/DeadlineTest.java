@@ -0,0 +1,47 @@
+package dev.caceresenzo.privy.client.impl.timeout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+class DeadlineTest {
+
+	@Test
+	void call() {
+		final var deadline = Deadline.after(Duration.ofSeconds(1));
+
+		assertThat(Deadline.current()).isNull();
+		assertThat(deadline.call(Deadline::current)).isSameAs(deadline);
+		assertThat(Deadline.current()).isNull();
+	}
+
+	@Test
+	void callNestedKeepsEarliest() {
+		final var earlier = Deadline.after(Duration.ofSeconds(1));
+		final var later = Deadline.after(Duration.ofMinutes(1));
+
+		assertThat(earlier.call(() -> later.call(Deadline::current))).isSameAs(earlier);
+		assertThat(later.call(() -> earlier.call(Deadline::current))).isSameAs(earlier);
+	}
+
+	@Test
+	void bind() {
+		final var deadline = Deadline.after(Duration.ofSeconds(1));
+
+		@SuppressWarnings("unchecked")
+		final Supplier<Deadline> bound = deadline.bind(Supplier.class, Deadline::current);
+
+		assertThat(bound.get()).isSameAs(deadline);
+		assertThat(Deadline.current()).isNull();
+	}
+
+	@Test
+	void expired() {
+		assertThat(Deadline.after(Duration.ZERO).isExpired()).isTrue();
+		assertThat(Deadline.after(Duration.ofDays(365_000_000)).isExpired()).isFalse();
+	}
+
+}
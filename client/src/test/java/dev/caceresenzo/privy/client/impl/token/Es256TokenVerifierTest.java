@@ -0,0 +1,59 @@
+package dev.caceresenzo.privy.client.impl.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.security.KeyPair;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+
+class Es256TokenVerifierTest {
+
+	static final String APPLICATION_ID = "a0b1c2d3e4f5g6h7i8j9k0l1m";
+	static final KeyPair KEY_PAIR = Jwts.SIG.ES256.keyPair().build();
+
+	final Es256TokenVerifier verifier = new Es256TokenVerifier("privy.io", APPLICATION_ID);
+
+	static JwtBuilder token() {
+		return token(APPLICATION_ID);
+	}
+
+	static JwtBuilder token(String audience) {
+		return Jwts.builder()
+			.issuer("privy.io")
+			.audience().add(audience).and()
+			.subject("did:privy:hello")
+			.expiration(Date.from(Instant.now().plus(1, ChronoUnit.HOURS)))
+			.signWith(KEY_PAIR.getPrivate(), Jwts.SIG.ES256);
+	}
+
+	@Test
+	void verify() {
+		final var token = token().compact();
+
+		final var jwt = verifier.verify(token, KEY_PAIR.getPublic());
+		assertThat(jwt).isNotNull();
+		assertThat(jwt.getPayload().getSubject()).isEqualTo("did:privy:hello");
+
+		assertThat(verifier.verify(token, KEY_PAIR.getPublic())).isEqualTo(jwt);
+	}
+
+	@Test
+	void unhandled() {
+		final var otherKey = Jwts.SIG.ES256.keyPair().build().getPublic();
+
+		assertThat(verifier.verify(token().compact(), otherKey)).isNull();
+		assertThat(verifier.verify(token().expiration(Date.from(Instant.now().minus(1, ChronoUnit.HOURS))).compact(), KEY_PAIR.getPublic())).isNull();
+		assertThat(verifier.verify(token().issuer("someone.else").compact(), KEY_PAIR.getPublic())).isNull();
+		assertThat(verifier.verify(token("another-application").compact(), KEY_PAIR.getPublic())).isNull();
+		assertThat(verifier.verify(token().header().add("cty", "custom").and().compact(), KEY_PAIR.getPublic())).isNull();
+		assertThat(verifier.verify("hello.world", KEY_PAIR.getPublic())).isNull();
+		assertThat(verifier.verify("a.b.c.d", KEY_PAIR.getPublic())).isNull();
+	}
+
+}
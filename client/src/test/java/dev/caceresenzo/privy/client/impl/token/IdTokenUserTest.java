@@ -0,0 +1,90 @@
+package dev.caceresenzo.privy.client.impl.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+
+import dev.caceresenzo.privy.model.LinkedAccount;
+import io.jsonwebtoken.MalformedJwtException;
+
+class IdTokenUserTest {
+
+	static final String LINKED_ACCOUNTS = "[{\"type\":\"email\",\"address\":\"hello@example.com\"}]";
+	static final String CUSTOM_METADATA = "{\"plan\":\"pro\"}";
+
+	@Test
+	void lazy() {
+		final var user = new IdTokenUser(LINKED_ACCOUNTS, CUSTOM_METADATA);
+
+		assertThat(user.customMetadata).isNull();
+
+		assertThat(user.getEmail()).map(LinkedAccount.Email::getAddress).contains("hello@example.com");
+		assertThat(user.getCustomMetadata().getString("plan")).contains("pro");
+		assertThat(user.customMetadata).isSameAs(user.getCustomMetadata());
+	}
+
+	@Test
+	void set() {
+		final var user = new IdTokenUser(LINKED_ACCOUNTS, CUSTOM_METADATA);
+
+		user.setLinkedAccounts(List.of());
+		user.setCustomMetadata(null);
+
+		assertThat(user.getLinkedAccounts()).isEmpty();
+		assertThat(user.getCustomMetadata().getString("plan")).isEmpty();
+	}
+
+	@Test
+	void malformed() {
+		final var user = new IdTokenUser("[", "{");
+
+		assertThatThrownBy(user::getLinkedAccounts)
+			.isInstanceOf(MalformedJwtException.class);
+
+		assertThatThrownBy(user::getCustomMetadata)
+			.isInstanceOf(MalformedJwtException.class);
+	}
+
+	@Test
+	void concurrentAccess() throws InterruptedException, ExecutionException {
+		final var threads = 8;
+		final var executor = Executors.newFixedThreadPool(threads);
+
+		try {
+			for (var attempt = 0; attempt < 100; ++attempt) {
+				final var user = new IdTokenUser(LINKED_ACCOUNTS, CUSTOM_METADATA);
+				final var start = new CountDownLatch(1);
+
+				final var tasks = new ArrayList<Callable<String>>();
+				for (var thread = 0; thread < threads; ++thread) {
+					tasks.add(() -> {
+						start.await();
+
+						final var address = user.getEmail().orElseThrow().getAddress();
+						final var plan = user.getCustomMetadata().getString("plan").orElseThrow();
+
+						return address + "/" + plan;
+					});
+				}
+
+				final var futures = tasks.stream().map(executor::submit).toList();
+				start.countDown();
+
+				for (final var future : futures) {
+					assertThat(future.get()).isEqualTo("hello@example.com/pro");
+				}
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+}
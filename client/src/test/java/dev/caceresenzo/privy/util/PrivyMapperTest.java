@@ -0,0 +1,31 @@
+package dev.caceresenzo.privy.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import dev.caceresenzo.privy.model.User;
+
+class PrivyMapperTest {
+
+	@Test
+	void wireIsCompact() throws IOException {
+		final var value = Map.of("custom_user_id", "hello");
+
+		assertThat(PrivyMapper.WIRE.writeValueAsString(value)).isEqualTo("{\"custom_user_id\":\"hello\"}");
+		assertThat(PrivyMapper.INSTANCE.writeValueAsString(value)).contains("\n");
+	}
+
+	@Test
+	void userReader() throws IOException {
+		final User user = PrivyMapper.USER_READER.readValue("""
+			{"id":"did:privy:hello","created_at":969628260,"unknown":true}""");
+
+		assertThat(user.getId()).isEqualTo("did:privy:hello");
+		assertThat(user.getCreatedAt().getTime()).isEqualTo(969628260_000L);
+	}
+
+}
@@ -1,6 +1,8 @@
 package dev.caceresenzo.privy.spring.boot.autoconfigure;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -10,7 +12,11 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import dev.caceresenzo.privy.client.CircuitBreakerPolicy;
+import dev.caceresenzo.privy.client.PrivyAsyncClient;
 import dev.caceresenzo.privy.client.PrivyClient;
+import dev.caceresenzo.privy.client.RetryPolicy;
+import dev.caceresenzo.privy.client.Timeouts;
 import dev.caceresenzo.privy.webhook.PrivyWebhook;
 import lombok.extern.slf4j.Slf4j;
 
@@ -43,11 +49,111 @@ public class PrivyAutoConfiguration {
 			builder.maxPageSize(maxPageSize);
 		}
 
+		final var pagePrefetchDepth = properties.getPagePrefetchDepth();
+		if (pagePrefetchDepth != null) {
+			builder.pagePrefetchDepth(pagePrefetchDepth);
+		}
+
 		final var cacheVerificationKey = properties.getCacheVerificationKey();
 		if (cacheVerificationKey != null) {
 			builder.cacheVerificationKey(cacheVerificationKey);
 		}
 
+		final var verifiedTokenCacheSize = properties.getVerifiedTokenCacheSize();
+		if (verifiedTokenCacheSize != null) {
+			builder.verifiedTokenCacheSize(verifiedTokenCacheSize);
+		}
+
+		final var verificationKeyRefreshInterval = properties.getVerificationKeyRefreshInterval();
+		if (verificationKeyRefreshInterval != null) {
+			builder.verificationKeyRefreshInterval(verificationKeyRefreshInterval);
+		}
+
+		final var verificationKeyRefetchInterval = properties.getVerificationKeyRefetchInterval();
+		if (verificationKeyRefetchInterval != null) {
+			builder.verificationKeyRefetchInterval(verificationKeyRefetchInterval);
+		}
+
+		final var verificationKey = properties.getVerificationKey();
+		final var verificationKeyLocation = properties.getVerificationKeyLocation();
+		if (verificationKey != null && verificationKeyLocation != null) {
+			throw new IllegalArgumentException("only one of %s or %s can be specified".formatted(PrivyProperties.PREFIX_VERIFICATION_KEY, PrivyProperties.PREFIX_VERIFICATION_KEY_LOCATION));
+		}
+
+		if (verificationKey != null) {
+			builder.verificationKey(verificationKey);
+		}
+
+		if (verificationKeyLocation != null) {
+			builder.verificationKey(verificationKeyLocation.getContentAsString(StandardCharsets.US_ASCII));
+		}
+
+		final var verificationKeyPersistenceFile = properties.getVerificationKeyPersistenceFile();
+		if (verificationKeyPersistenceFile != null) {
+			builder.verificationKeyPersistenceFile(verificationKeyPersistenceFile);
+		}
+
+		final var fastTokenVerification = properties.getFastTokenVerification();
+		if (fastTokenVerification != null) {
+			builder.fastTokenVerification(fastTokenVerification);
+		}
+
+		final var tokenPrecheck = properties.getTokenPrecheck();
+		if (tokenPrecheck != null) {
+			builder.tokenPrecheck(tokenPrecheck);
+		}
+
+		final var tokenPrecheckClockSkew = properties.getTokenPrecheckClockSkew();
+		if (tokenPrecheckClockSkew != null) {
+			builder.tokenPrecheckClockSkew(tokenPrecheckClockSkew);
+		}
+
+		final var rejectedTokenCacheSize = properties.getRejectedTokenCacheSize();
+		if (rejectedTokenCacheSize != null) {
+			builder.rejectedTokenCacheSize(rejectedTokenCacheSize);
+		}
+
+		final var rejectedTokenCacheDuration = properties.getRejectedTokenCacheDuration();
+		if (rejectedTokenCacheDuration != null) {
+			builder.rejectedTokenCacheDuration(rejectedTokenCacheDuration);
+		}
+
+		final var virtualThreads = properties.getVirtualThreads();
+		if (virtualThreads != null) {
+			builder.virtualThreads(virtualThreads);
+		}
+
+		var retryPolicy = RetryPolicy.DEFAULT;
+
+		final var retryMaxAttempts = properties.getRetryMaxAttempts();
+		if (retryMaxAttempts != null) {
+			retryPolicy = retryPolicy.withMaxAttempts(retryMaxAttempts);
+		}
+
+		final var retryNonIdempotent = properties.getRetryNonIdempotent();
+		if (retryNonIdempotent != null) {
+			retryPolicy = retryPolicy.withRetryNonIdempotent(retryNonIdempotent);
+		}
+
+		builder.retryPolicy(retryPolicy);
+
+		final var circuitBreaker = properties.getCircuitBreaker();
+		if (Boolean.TRUE.equals(circuitBreaker)) {
+			builder.circuitBreakerPolicy(CircuitBreakerPolicy.DEFAULT);
+		}
+
+		final var timeouts = toTimeouts(Timeouts.DEFAULT, properties.getConnectTimeout(), properties.getReadTimeout());
+		builder.timeouts(timeouts);
+
+		properties.getEndpointTimeouts().forEach((group, endpointTimeouts) -> {
+			builder.timeouts(group, toTimeouts(timeouts, endpointTimeouts.getConnectTimeout(), endpointTimeouts.getReadTimeout()));
+		});
+
+		final var compression = properties.getCompression();
+		if (compression != null) {
+			builder.compression(compression);
+		}
+
 		if (!jwtParserCustomizers.isEmpty()) {
 			builder.jwtParserCustomizer((jwtParserBuilder) -> {
 				for (final var customizer : jwtParserCustomizers) {
@@ -61,6 +167,31 @@ public class PrivyAutoConfiguration {
 		return builder.build();
 	}
 
+	@Bean
+	@ConditionalOnProperty(PrivyProperties.PREFIX_APPLICATION_ID)
+	@ConditionalOnMissingBean
+	PrivyAsyncClient privyAsyncClient(PrivyProperties properties) {
+		log.info("Configuring Privy Async Client");
+
+		final PrivyClient.Builder builder = PrivyClient.builder()
+			.applicationId(properties.getApplicationId())
+			.applicationSecret(properties.getApplicationSecret());
+
+		final var apiUrl = properties.getApiUrl();
+		if (apiUrl != null) {
+			builder.apiUrl(apiUrl);
+		}
+
+		builder.timeouts(toTimeouts(Timeouts.DEFAULT, properties.getConnectTimeout(), properties.getReadTimeout()));
+
+		final var compression = properties.getCompression();
+		if (compression != null) {
+			builder.compression(compression);
+		}
+
+		return builder.buildAsync();
+	}
+
 	@Bean
 	@ConditionalOnProperty(PrivyProperties.PREFIX_WEBHOOK_SIGNING_KEY)
 	@ConditionalOnMissingBean
@@ -72,4 +203,16 @@ public class PrivyAutoConfiguration {
 			.build();
 	}
 
-}
\ No newline at end of file
+	private static Timeouts toTimeouts(Timeouts timeouts, Duration connectTimeout, Duration readTimeout) {
+		if (connectTimeout != null) {
+			timeouts = timeouts.withConnectTimeout(connectTimeout);
+		}
+
+		if (readTimeout != null) {
+			timeouts = timeouts.withReadTimeout(readTimeout);
+		}
+
+		return timeouts;
+	}
+
+}
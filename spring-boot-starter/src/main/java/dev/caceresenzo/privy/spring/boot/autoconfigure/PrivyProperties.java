@@ -1,7 +1,14 @@
 package dev.caceresenzo.privy.spring.boot.autoconfigure;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.core.io.Resource;
 
+import dev.caceresenzo.privy.client.EndpointGroup;
 import lombok.Data;
 
 @Data
@@ -12,12 +19,42 @@ public class PrivyProperties {
 	public static final String PREFIX_APPLICATION_ID = PREFIX + ".application-id";
 	public static final String PREFIX_APPLICATION_SECRET = PREFIX + ".application-secret";
 	public static final String PREFIX_WEBHOOK_SIGNING_KEY = PREFIX + ".webhook-signing-key";
+	public static final String PREFIX_VERIFICATION_KEY = PREFIX + ".verification-key";
+	public static final String PREFIX_VERIFICATION_KEY_LOCATION = PREFIX + ".verification-key-location";
 
 	private String apiUrl;
 	private String applicationId;
 	private String applicationSecret;
 	private String webhookSigningKey;
 	private Long maxPageSize;
+	private Integer pagePrefetchDepth;
 	private Boolean cacheVerificationKey;
+	private Long verifiedTokenCacheSize;
+	private Duration verificationKeyRefreshInterval;
+	private Duration verificationKeyRefetchInterval;
+	private String verificationKey;
+	private Resource verificationKeyLocation;
+	private Path verificationKeyPersistenceFile;
+	private Boolean fastTokenVerification;
+	private Boolean tokenPrecheck;
+	private Duration tokenPrecheckClockSkew;
+	private Long rejectedTokenCacheSize;
+	private Duration rejectedTokenCacheDuration;
+	private Boolean virtualThreads;
+	private Integer retryMaxAttempts;
+	private Boolean retryNonIdempotent;
+	private Boolean circuitBreaker;
+	private Duration connectTimeout;
+	private Duration readTimeout;
+	private Map<EndpointGroup, EndpointTimeouts> endpointTimeouts = new EnumMap<>(EndpointGroup.class);
+	private Boolean compression;
+
+	@Data
+	public static class EndpointTimeouts {
+
+		private Duration connectTimeout;
+		private Duration readTimeout;
+
+	}
 
 }
\ No newline at end of file
@@ -2,15 +2,23 @@ package dev.caceresenzo.privy.spring.boot;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.time.Duration;
 
 import org.junit.jupiter.api.Test;
 import org.junit.platform.commons.util.ReflectionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.NestedExceptionUtils;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import dev.caceresenzo.privy.client.EndpointGroup;
+import dev.caceresenzo.privy.client.PrivyAsyncClient;
 import dev.caceresenzo.privy.client.PrivyClient;
+import dev.caceresenzo.privy.client.impl.PrivyAsyncClientImpl;
 import dev.caceresenzo.privy.client.impl.PrivyClientImpl;
 import dev.caceresenzo.privy.spring.boot.autoconfigure.PrivyAutoConfiguration;
 import dev.caceresenzo.privy.spring.boot.autoconfigure.PrivyJwtParserCustomizer;
@@ -25,7 +33,8 @@ import lombok.SneakyThrows;
 	},
 	properties = {
 		PrivyProperties.PREFIX_APPLICATION_ID + "=hello",
-		PrivyProperties.PREFIX_APPLICATION_SECRET + "=world"
+		PrivyProperties.PREFIX_APPLICATION_SECRET + "=world",
+		PrivyProperties.PREFIX + ".endpoint-timeouts.list.read-timeout=2m"
 	}
 )
 class ClientAutoConfigurationTest {
@@ -40,6 +49,39 @@ class ClientAutoConfigurationTest {
 		assertEquals(42_000l, clockSkew.get());
 	}
 
+	@Test
+	void asyncContextLoads(@Autowired PrivyAsyncClient client) {
+		final var clientImpl = assertInstanceOf(PrivyAsyncClientImpl.class, client);
+
+		assertEquals("hello", clientImpl.getApplicationId());
+	}
+
+	@Test
+	void endpointTimeouts(@Autowired PrivyProperties properties) {
+		final var endpointTimeouts = properties.getEndpointTimeouts().get(EndpointGroup.LIST);
+
+		assertEquals(Duration.ofMinutes(2), endpointTimeouts.getReadTimeout());
+	}
+
+	@Test
+	void verificationKeyAndLocation() {
+		new ApplicationContextRunner()
+			.withUserConfiguration(PrivyAutoConfiguration.class)
+			.withPropertyValues(
+				PrivyProperties.PREFIX_APPLICATION_ID + "=hello",
+				PrivyProperties.PREFIX_APPLICATION_SECRET + "=world",
+				PrivyProperties.PREFIX_VERIFICATION_KEY + "=key",
+				PrivyProperties.PREFIX_VERIFICATION_KEY_LOCATION + "=classpath:verification-key.pem"
+			)
+			.run((context) -> {
+				final var failure = context.getStartupFailure();
+				assertNotNull(failure);
+
+				final var cause = assertInstanceOf(IllegalArgumentException.class, NestedExceptionUtils.getMostSpecificCause(failure));
+				assertEquals("only one of privy.verification-key or privy.verification-key-location can be specified", cause.getMessage());
+			});
+	}
+
 	@Configuration
 	static class ContextConfiguration {
 